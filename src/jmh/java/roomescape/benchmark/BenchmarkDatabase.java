@@ -0,0 +1,93 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import roomescape.infrastructure.JdbcThemeRepository;
+
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+    public static final int THEME_COUNT = 50;
+    public static final int TIME_COUNT = 30;
+    public static final int SLOTS_PER_DAY = THEME_COUNT * TIME_COUNT;
+    public static final LocalDate FIRST_DATE = LocalDate.of(2025, 1, 1);
+
+    private static final String INSERT_TIMES_SQL = """
+            insert into reservation_time (id, start_at)
+            select x, cast(dateadd('MINUTE', x * 20, timestamp '2000-01-01 09:00:00') as time)
+            from system_range(1, %d)
+            """;
+    private static final String INSERT_THEMES_SQL = """
+            insert into theme (id, name, description, thumbnail)
+            select x, '테마' || x, '테마 설명', 'https://example.com/thumbnail.png'
+            from system_range(1, %d)
+            """;
+    private static final String INSERT_RESERVATIONS_SQL = """
+            insert into reservation (name, date, time_id, theme_id)
+            select '예약자' || mod(x, 1000), dateadd('DAY', x / %d, date '2025-01-01'),
+            mod(x, %d) + 1, mod(x / %d, %d) + 1
+            from system_range(0, %d)
+            """;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private JdbcConnectionPool connectionPool;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        connectionPool = JdbcConnectionPool.create("jdbc:h2:mem:benchmark-" + rows + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(connectionPool);
+        jdbcTemplate = new JdbcTemplate(connectionPool);
+        jdbcTemplate.update(INSERT_TIMES_SQL.formatted(TIME_COUNT));
+        jdbcTemplate.update(INSERT_THEMES_SQL.formatted(THEME_COUNT));
+        jdbcTemplate.update(INSERT_RESERVATIONS_SQL.formatted(
+                SLOTS_PER_DAY, TIME_COUNT, TIME_COUNT, THEME_COUNT, rows - 1
+        ));
+        new JdbcThemeRepository(jdbcTemplate).backfillDailyStats();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("shutdown");
+        connectionPool.dispose();
+    }
+
+    public LocalDate dateOf(long sequence) {
+        return FIRST_DATE.plusDays(sequence / SLOTS_PER_DAY);
+    }
+
+    public long timeIdOf(long sequence) {
+        return sequence % TIME_COUNT + 1;
+    }
+
+    public long themeIdOf(long sequence) {
+        return sequence / TIME_COUNT % THEME_COUNT + 1;
+    }
+
+    public LocalDate lastDate() {
+        return dateOf(rows - 1L);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public DataSource getDataSource() {
+        return connectionPool;
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+}
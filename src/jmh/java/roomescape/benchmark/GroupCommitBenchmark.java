@@ -0,0 +1,94 @@
+package roomescape.benchmark;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.domain.PlayerName;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.Theme;
+import roomescape.domain.ThemeName;
+import roomescape.infrastructure.JdbcReservationRepository;
+import roomescape.infrastructure.groupcommit.GroupCommitReservationRepository;
+
+@Threads(32)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GroupCommitBenchmark {
+    private static final int MAX_BATCH_SIZE = 64;
+    private static final Duration MAX_DELAY = Duration.ofMillis(2);
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final LocalDate BOOKING_START_DATE = LocalDate.of(2300, 1, 1);
+
+    @Param({"true", "false"})
+    private boolean groupCommit;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private BenchmarkDatabase database;
+    private JdbcReservationRepository reservationRepository;
+    private GroupCommitReservationRepository groupCommitReservationRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        this.database = database;
+        reservationRepository = new JdbcReservationRepository(database.getJdbcTemplate());
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database.getDataSource()));
+        if (groupCommit) {
+            groupCommitReservationRepository = new GroupCommitReservationRepository(
+                    reservationRepository,
+                    reservationRepository,
+                    new DataSourceTransactionManager(database.getDataSource()),
+                    reservation -> {
+                    },
+                    MAX_BATCH_SIZE,
+                    MAX_DELAY,
+                    QUEUE_CAPACITY
+            );
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (groupCommitReservationRepository != null) {
+            groupCommitReservationRepository.close();
+        }
+    }
+
+    @Benchmark
+    public Reservation create() {
+        Reservation reservation = nextReservation();
+        if (groupCommit) {
+            return groupCommitReservationRepository.create(reservation);
+        }
+        return transactionTemplate.execute(status -> reservationRepository.create(reservation));
+    }
+
+    private Reservation nextReservation() {
+        long next = sequence.getAndIncrement();
+        LocalDate date = BOOKING_START_DATE.plusDays(next / BenchmarkDatabase.SLOTS_PER_DAY);
+        long themeId = database.themeIdOf(next);
+        return new Reservation(
+                new PlayerName("benchmark"),
+                date,
+                new ReservationTime(database.timeIdOf(next), LocalTime.of(10, 0)),
+                new Theme(themeId, new ThemeName("테마" + themeId), "테마 설명", "https://example.com/thumbnail.png")
+        );
+    }
+}
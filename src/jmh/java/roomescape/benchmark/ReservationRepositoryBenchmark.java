@@ -0,0 +1,41 @@
+package roomescape.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import roomescape.domain.ReservationFilter;
+import roomescape.domain.ReservationPage;
+import roomescape.infrastructure.JdbcReservationRepository;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ReservationRepositoryBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    private JdbcReservationRepository reservationRepository;
+    private ReservationFilter themeFilter;
+    private long middleCursor;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        this.reservationRepository = new JdbcReservationRepository(database.getJdbcTemplate());
+        this.themeFilter = new ReservationFilter(database.themeIdOf(0), null, null, null);
+        this.middleCursor = database.getRows() / 2;
+    }
+
+    @Benchmark
+    public ReservationPage findFirstPageByTheme() {
+        return reservationRepository.findPage(themeFilter, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ReservationPage findMiddlePageByTheme() {
+        return reservationRepository.findPage(themeFilter, middleCursor, PAGE_SIZE);
+    }
+}
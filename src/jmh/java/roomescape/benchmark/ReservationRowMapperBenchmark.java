@@ -0,0 +1,94 @@
+package roomescape.benchmark;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.RowMapper;
+import roomescape.domain.PlayerName;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.Theme;
+import roomescape.domain.ThemeName;
+import roomescape.infrastructure.rowmapper.ReservationRowMapper;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ReservationRowMapperBenchmark {
+    private static final int ROW_COUNT = 1_000;
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+
+    private SimpleResultSet resultSet;
+
+    @Setup
+    public void setUp() {
+        resultSet = new SimpleResultSet();
+        resultSet.setAutoClose(false);
+        resultSet.addColumn("reservation_id", Types.BIGINT, 19, 0);
+        resultSet.addColumn("reservation_name", Types.VARCHAR, 20, 0);
+        resultSet.addColumn("date", Types.DATE, 10, 0);
+        resultSet.addColumn("time_id", Types.BIGINT, 19, 0);
+        resultSet.addColumn("start_at", Types.TIME, 8, 0);
+        resultSet.addColumn("theme_id", Types.BIGINT, 19, 0);
+        resultSet.addColumn("theme_name", Types.VARCHAR, 20, 0);
+        resultSet.addColumn("description", Types.VARCHAR, 200, 0);
+        resultSet.addColumn("thumbnail", Types.VARCHAR, 200, 0);
+        String description = "설".repeat(200);
+        for (long sequence = 0; sequence < ROW_COUNT; sequence++) {
+            long timeId = sequence % BenchmarkDatabase.TIME_COUNT + 1;
+            long themeId = sequence / BenchmarkDatabase.TIME_COUNT % BenchmarkDatabase.THEME_COUNT + 1;
+            resultSet.addRow(sequence + 1, "예약자" + sequence,
+                    START_DATE.plusDays(sequence / BenchmarkDatabase.SLOTS_PER_DAY),
+                    timeId, LocalTime.of(9, 0).plusMinutes(timeId * 20),
+                    themeId, "테마" + themeId, description, "https://example.com/thumbnail/" + themeId + ".png");
+        }
+    }
+
+    @Benchmark
+    public List<Reservation> perRowMapping() throws SQLException {
+        return mapAll((rs, rowNum) -> mapRowByLabel(rs));
+    }
+
+    @Benchmark
+    public List<Reservation> canonicalMapping() throws SQLException {
+        return mapAll(new ReservationRowMapper());
+    }
+
+    private List<Reservation> mapAll(RowMapper<Reservation> rowMapper) throws SQLException {
+        List<Reservation> reservations = new ArrayList<>(ROW_COUNT);
+        resultSet.beforeFirst();
+        int rowNum = 0;
+        while (resultSet.next()) {
+            reservations.add(rowMapper.mapRow(resultSet, rowNum++));
+        }
+        return reservations;
+    }
+
+    private static Reservation mapRowByLabel(ResultSet rs) throws SQLException {
+        return new Reservation(
+                rs.getLong("reservation_id"),
+                new PlayerName(rs.getString("reservation_name")),
+                LocalDate.parse(rs.getString("date")),
+                new ReservationTime(rs.getLong("time_id"), LocalTime.parse(rs.getString("start_at"))),
+                new Theme(
+                        rs.getLong("theme_id"),
+                        new ThemeName(rs.getString("theme_name")),
+                        rs.getString("description"),
+                        rs.getString("thumbnail")
+                )
+        );
+    }
+}
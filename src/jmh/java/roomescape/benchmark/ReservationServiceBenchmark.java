@@ -0,0 +1,72 @@
+package roomescape.benchmark;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.application.ReservationService;
+import roomescape.application.SlotAdmission;
+import roomescape.application.dto.request.ReservationRequest;
+import roomescape.application.dto.response.ReservationResponse;
+import roomescape.infrastructure.JdbcReservationRepository;
+import roomescape.infrastructure.JdbcReservationTimeRepository;
+import roomescape.infrastructure.JdbcThemeRepository;
+import roomescape.infrastructure.cache.CachingReservationTimeRepository;
+import roomescape.infrastructure.cache.CachingThemeRepository;
+import roomescape.infrastructure.cache.CatalogCache;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ReservationServiceBenchmark {
+    private static final int CATALOG_CACHE_SIZE = 256;
+    private static final int SLOT_ADMISSION_STRIPES = 4096;
+    private static final LocalDate BOOKING_START_DATE = LocalDate.of(2100, 1, 1);
+
+    private final AtomicLong sequence = new AtomicLong();
+    private BenchmarkDatabase database;
+    private ReservationService reservationService;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        this.database = database;
+        JdbcTemplate jdbcTemplate = database.getJdbcTemplate();
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(database.getDataSource());
+        reservationService = new ReservationService(
+                new JdbcReservationRepository(jdbcTemplate),
+                new CachingReservationTimeRepository(
+                        new JdbcReservationTimeRepository(jdbcTemplate), new CatalogCache<>(CATALOG_CACHE_SIZE)
+                ),
+                new CachingThemeRepository(
+                        new JdbcThemeRepository(jdbcTemplate), new CatalogCache<>(CATALOG_CACHE_SIZE)
+                ),
+                event -> {
+                },
+                new SlotAdmission(SLOT_ADMISSION_STRIPES),
+                transactionManager,
+                Clock.systemDefaultZone()
+        );
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Benchmark
+    public ReservationResponse create() {
+        long next = sequence.getAndIncrement();
+        LocalDate date = BOOKING_START_DATE.plusDays(next / BenchmarkDatabase.SLOTS_PER_DAY);
+        ReservationRequest request = new ReservationRequest(
+                "benchmark", date.toString(), database.timeIdOf(next), database.themeIdOf(next)
+        );
+        return transactionTemplate.execute(status -> reservationService.create(request));
+    }
+}
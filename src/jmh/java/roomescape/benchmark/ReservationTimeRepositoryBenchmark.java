@@ -0,0 +1,36 @@
+package roomescape.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import roomescape.domain.TimeSlot;
+import roomescape.infrastructure.JdbcReservationTimeRepository;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ReservationTimeRepositoryBenchmark {
+    private BenchmarkDatabase database;
+    private JdbcReservationTimeRepository reservationTimeRepository;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        this.database = database;
+        this.reservationTimeRepository = new JdbcReservationTimeRepository(database.getJdbcTemplate());
+    }
+
+    @Benchmark
+    public List<TimeSlot> getReservationTimeAvailabilities() {
+        long sequence = ThreadLocalRandom.current().nextLong(database.getRows());
+        return reservationTimeRepository.getReservationTimeAvailabilities(
+                database.dateOf(sequence), database.themeIdOf(sequence)
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package roomescape.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import roomescape.application.dto.response.AvailableTimeResponse;
+import roomescape.application.dto.response.ReservationPageResponse;
+import roomescape.application.dto.response.ReservationResponse;
+import roomescape.application.dto.response.ReservationTimeResponse;
+import roomescape.application.dto.response.ThemeResponse;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ResponseEncodingBenchmark {
+    private static final int PAGE_SIZE = 100;
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private ReservationPageResponse reservationPage;
+    private List<AvailableTimeResponse> availableTimes;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factoryOf(format))
+                .build();
+        String description = "설".repeat(200);
+        List<ReservationResponse> reservations = LongStream.range(0, PAGE_SIZE)
+                .mapToObj(sequence -> new ReservationResponse(
+                        sequence + 1,
+                        "예약자" + sequence % 1000,
+                        START_DATE.plusDays(sequence / BenchmarkDatabase.SLOTS_PER_DAY),
+                        new ReservationTimeResponse(sequence % BenchmarkDatabase.TIME_COUNT + 1, LocalTime.of(10, 0)),
+                        new ThemeResponse(sequence % BenchmarkDatabase.THEME_COUNT + 1, "테마" + sequence,
+                                description, "https://example.com/thumbnail.png")
+                ))
+                .toList();
+        reservationPage = new ReservationPageResponse(reservations, (long) PAGE_SIZE);
+        availableTimes = IntStream.range(0, BenchmarkDatabase.TIME_COUNT)
+                .mapToObj(index -> new AvailableTimeResponse(
+                        new ReservationTimeResponse(index + 1, LocalTime.of(9, 0).plusMinutes(20L * index)),
+                        index % 3 == 0
+                ))
+                .toList();
+    }
+
+    private JsonFactory factoryOf(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+
+    @Benchmark
+    public byte[] encodeReservationPage(EncodedSize encodedSize) throws JsonProcessingException {
+        byte[] encoded = objectMapper.writeValueAsBytes(reservationPage);
+        encodedSize.bytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public byte[] encodeAvailableTimes(EncodedSize encodedSize) throws JsonProcessingException {
+        byte[] encoded = objectMapper.writeValueAsBytes(availableTimes);
+        encodedSize.bytes = encoded.length;
+        return encoded;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package roomescape.benchmark;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.application.ReservationService;
+import roomescape.application.SlotAdmission;
+import roomescape.application.dto.request.ReservationRequest;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationSlot;
+import roomescape.exception.RoomescapeException;
+import roomescape.infrastructure.JdbcReservationRepository;
+import roomescape.infrastructure.JdbcReservationTimeRepository;
+import roomescape.infrastructure.JdbcThemeRepository;
+import roomescape.infrastructure.cache.CachingReservationTimeRepository;
+import roomescape.infrastructure.cache.CachingThemeRepository;
+import roomescape.infrastructure.cache.CatalogCache;
+
+@Threads(32)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SlotContentionBenchmark {
+    private static final int CATALOG_CACHE_SIZE = 256;
+    private static final int SLOT_ADMISSION_STRIPES = 4096;
+    private static final int CONTENDERS_PER_SLOT = 32;
+    private static final LocalDate STORM_START_DATE = LocalDate.of(2200, 1, 1);
+
+    private static final ThreadLocal<long[]> INSERT_ATTEMPTS = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Param({"true", "false"})
+    private boolean admission;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private BenchmarkDatabase database;
+    private ReservationService reservationService;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        this.database = database;
+        JdbcTemplate jdbcTemplate = database.getJdbcTemplate();
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(database.getDataSource());
+        JdbcReservationRepository reservationRepository = new JdbcReservationRepository(jdbcTemplate) {
+            @Override
+            public Reservation create(Reservation reservation) {
+                INSERT_ATTEMPTS.get()[0]++;
+                return super.create(reservation);
+            }
+        };
+        reservationService = new ReservationService(
+                reservationRepository,
+                new CachingReservationTimeRepository(
+                        new JdbcReservationTimeRepository(jdbcTemplate), new CatalogCache<>(CATALOG_CACHE_SIZE)
+                ),
+                new CachingThemeRepository(
+                        new JdbcThemeRepository(jdbcTemplate), new CatalogCache<>(CATALOG_CACHE_SIZE)
+                ),
+                event -> {
+                },
+                admission ? new SlotAdmission(SLOT_ADMISSION_STRIPES) : new AdmitAll(),
+                transactionManager,
+                Clock.systemDefaultZone()
+        );
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public boolean stormThroughput(StormCounters counters) {
+        long[] threadInsertAttempts = INSERT_ATTEMPTS.get();
+        long insertsBefore = threadInsertAttempts[0];
+        boolean booked = book();
+        counters.insertAttempts += threadInsertAttempts[0] - insertsBefore;
+        if (!booked) {
+            counters.rejections++;
+        }
+        return booked;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public boolean stormLatency() {
+        return book();
+    }
+
+    private boolean book() {
+        long slotSequence = sequence.getAndIncrement() / CONTENDERS_PER_SLOT;
+        LocalDate date = STORM_START_DATE.plusDays(slotSequence / BenchmarkDatabase.SLOTS_PER_DAY);
+        ReservationRequest request = new ReservationRequest(
+                "storm", date.toString(), database.timeIdOf(slotSequence), database.themeIdOf(slotSequence)
+        );
+        try {
+            transactionTemplate.execute(status -> reservationService.create(request));
+            return true;
+        } catch (RoomescapeException e) {
+            return false;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StormCounters {
+        public long insertAttempts;
+        public long rejections;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            insertAttempts = 0;
+            rejections = 0;
+        }
+    }
+
+    private static class AdmitAll extends SlotAdmission {
+        AdmitAll() {
+            super(SLOT_ADMISSION_STRIPES);
+        }
+
+        @Override
+        public boolean tryAcquire(ReservationSlot slot) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.domain.PlayerName;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.Theme;
+import roomescape.domain.ThemeName;
+import roomescape.infrastructure.JdbcReservationRepository;
+
+@Threads(8)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SlotUniquenessBenchmark {
+    private static final LocalDate BOOKING_START_DATE = LocalDate.of(2400, 1, 1);
+    private static final String EXISTS_SQL =
+            "select exists(select 1 from reservation where date = ? and time_id = ? and theme_id = ?)";
+
+    @Param({"true", "false"})
+    private boolean precheck;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private BenchmarkDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcReservationRepository reservationRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        this.database = database;
+        jdbcTemplate = database.getJdbcTemplate();
+        reservationRepository = new JdbcReservationRepository(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database.getDataSource()));
+    }
+
+    @Benchmark
+    public Reservation book() {
+        Reservation reservation = nextReservation();
+        return transactionTemplate.execute(status -> {
+            if (precheck && exists(reservation)) {
+                return null;
+            }
+            return reservationRepository.create(reservation);
+        });
+    }
+
+    private boolean exists(Reservation reservation) {
+        Boolean result = jdbcTemplate.queryForObject(
+                EXISTS_SQL, Boolean.class,
+                reservation.getDate(), reservation.getTime().getId(), reservation.getTheme().getId()
+        );
+        return Boolean.TRUE.equals(result);
+    }
+
+    private Reservation nextReservation() {
+        long next = sequence.getAndIncrement();
+        LocalDate date = BOOKING_START_DATE.plusDays(next / BenchmarkDatabase.SLOTS_PER_DAY);
+        long themeId = database.themeIdOf(next);
+        return new Reservation(
+                new PlayerName("benchmark"),
+                date,
+                new ReservationTime(database.timeIdOf(next), LocalTime.of(10, 0)),
+                new Theme(themeId, new ThemeName("테마" + themeId), "테마 설명", "https://example.com/thumbnail.png")
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.domain.Theme;
+import roomescape.infrastructure.JdbcThemeRepository;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ThemeRepositoryBenchmark {
+    private static final int POPULAR_THEME_LIMIT = 10;
+    private static final String AGGREGATE_POPULAR_THEMES_SQL = """
+            select t.id
+            from theme as t left join reservation as r on t.id = r.theme_id
+            where r.date between ? and ?
+            group by t.id
+            order by count(r.id) desc, t.id
+            limit ?
+            """;
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcThemeRepository themeRepository;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        this.jdbcTemplate = database.getJdbcTemplate();
+        this.themeRepository = new JdbcThemeRepository(jdbcTemplate);
+        this.endDate = database.lastDate();
+        this.startDate = endDate.minusDays(6);
+    }
+
+    @Benchmark
+    public List<Theme> findPopularThemesDateBetween() {
+        return themeRepository.findPopularThemesDateBetween(startDate, endDate, POPULAR_THEME_LIMIT);
+    }
+
+    @Benchmark
+    public List<Long> findPopularThemesByAggregatingReservations() {
+        return jdbcTemplate.queryForList(
+                AGGREGATE_POPULAR_THEMES_SQL, Long.class, startDate, endDate, POPULAR_THEME_LIMIT
+        );
+    }
+}
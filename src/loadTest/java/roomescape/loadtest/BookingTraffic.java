@@ -0,0 +1,65 @@
+package roomescape.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+class BookingTraffic {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final URI baseUri;
+    private final List<Long> themeIds;
+    private final List<Long> timeIds;
+    private final int hotThemeCount;
+    private final int bookingDays;
+    private final LocalDate firstBookingDate;
+
+    BookingTraffic(URI baseUri, List<Long> themeIds, List<Long> timeIds, LoadTestOptions options) {
+        this.baseUri = baseUri;
+        this.themeIds = themeIds;
+        this.timeIds = timeIds;
+        this.hotThemeCount = Math.min(options.hotThemeCount(), themeIds.size());
+        this.bookingDays = options.bookingDays();
+        this.firstBookingDate = LocalDate.now().plusDays(1);
+    }
+
+    HttpRequest next(Endpoint endpoint, ThreadLocalRandom random) {
+        return switch (endpoint) {
+            case BROWSE_THEMES -> get("/themes");
+            case POLL_AVAILABLE_TIMES -> get(String.format("/times/available?date=%s&themeId=%d",
+                    randomDate(random), pick(themeIds, themeIds.size(), random)));
+            case BOOK_RESERVATION -> post("/reservations", String.format(
+                    "{\"name\":\"user%d\",\"date\":\"%s\",\"timeId\":%d,\"themeId\":%d}",
+                    random.nextInt(10_000), randomDate(random),
+                    pick(timeIds, timeIds.size(), random), pick(themeIds, hotThemeCount, random)));
+            case ADMIN_RESERVATIONS -> get("/reservations?size=20");
+        };
+    }
+
+    private LocalDate randomDate(ThreadLocalRandom random) {
+        return firstBookingDate.plusDays(random.nextInt(bookingDays));
+    }
+
+    private long pick(List<Long> ids, int bound, ThreadLocalRandom random) {
+        return ids.get(random.nextInt(bound));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body))
+                .build();
+    }
+}
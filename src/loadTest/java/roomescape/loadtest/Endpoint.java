@@ -0,0 +1,37 @@
+package roomescape.loadtest;
+
+enum Endpoint {
+    BROWSE_THEMES("GET /themes", 40),
+    POLL_AVAILABLE_TIMES("GET /times/available", 35),
+    BOOK_RESERVATION("POST /reservations", 20),
+    ADMIN_RESERVATIONS("GET /reservations", 5);
+
+    private static final int TOTAL_WEIGHT = 100;
+
+    private final String label;
+    private final int weight;
+
+    Endpoint(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    static Endpoint pick(int roll) {
+        int remaining = roll % TOTAL_WEIGHT;
+        for (Endpoint endpoint : values()) {
+            remaining -= endpoint.weight;
+            if (remaining < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("요청 비율의 합이 올바르지 않습니다.");
+    }
+
+    static int totalWeight() {
+        return TOTAL_WEIGHT;
+    }
+
+    String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,44 @@
+package roomescape.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int count;
+    private final Map<String, Long> outcomes = new TreeMap<>();
+
+    synchronized void record(long latencyNanos, String outcome) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = latencyNanos;
+        outcomes.merge(outcome, 1L, Long::sum);
+    }
+
+    synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Snapshot(sorted, new TreeMap<>(outcomes));
+    }
+
+    record Snapshot(long[] sortedLatencies, Map<String, Long> outcomes) {
+
+        int count() {
+            return sortedLatencies.length;
+        }
+
+        long percentile(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)];
+        }
+
+        long max() {
+            return sortedLatencies.length == 0 ? 0 : sortedLatencies[sortedLatencies.length - 1];
+        }
+    }
+}
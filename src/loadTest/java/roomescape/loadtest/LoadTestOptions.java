@@ -0,0 +1,33 @@
+package roomescape.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+record LoadTestOptions(
+        int rate,
+        Duration duration,
+        Duration warmup,
+        int concurrency,
+        int themeCount,
+        int hotThemeCount,
+        int bookingDays,
+        Path output
+) {
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Integer.getInteger("loadtest.rate", 200),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Integer.getInteger("loadtest.themes", 20),
+                Integer.getInteger("loadtest.hot-themes", 3),
+                Integer.getInteger("loadtest.booking-days", 7),
+                Path.of(System.getProperty("loadtest.output", "build/reports/loadtest/results.txt"))
+        );
+    }
+
+    long intervalNanos() {
+        return Duration.ofSeconds(1).toNanos() / rate;
+    }
+}
@@ -0,0 +1,75 @@
+package roomescape.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import roomescape.loadtest.LatencyRecorder.Snapshot;
+
+class LoadTestReport {
+    private static final String ROW_FORMAT = "%-24s %8s %10s %9s %9s %9s %9s %9s  %s%n";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LoadTestOptions options;
+    private final Map<Endpoint, Snapshot> snapshots;
+    private final long measuredNanos;
+
+    LoadTestReport(LoadTestOptions options, Map<Endpoint, Snapshot> snapshots, long measuredNanos) {
+        this.options = options;
+        this.snapshots = snapshots;
+        this.measuredNanos = measuredNanos;
+    }
+
+    String render() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("rate=%d/s duration=%s warmup=%s concurrency=%d themes=%d hot-themes=%d "
+                        + "booking-days=%d%n%n", options.rate(), options.duration(), options.warmup(),
+                options.concurrency(), options.themeCount(), options.hotThemeCount(), options.bookingDays()));
+        report.append(String.format(ROW_FORMAT, "endpoint", "count", "req/s", "p50(ms)", "p95(ms)", "p99(ms)",
+                "p999(ms)", "max(ms)", "outcomes"));
+        snapshots.forEach((endpoint, snapshot) -> report.append(row(endpoint.getLabel(), snapshot)));
+        report.append(row("total", total()));
+        return report.toString();
+    }
+
+    void writeTo(Path output) throws IOException {
+        Path parent = output.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Files.writeString(output, render());
+    }
+
+    private String row(String label, Snapshot snapshot) {
+        double seconds = measuredNanos / 1_000_000_000.0;
+        String outcomes = snapshot.outcomes()
+                .entrySet()
+                .stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(" "));
+        return String.format(ROW_FORMAT, label, snapshot.count(), String.format("%.1f", snapshot.count() / seconds),
+                millis(snapshot.percentile(50)), millis(snapshot.percentile(95)), millis(snapshot.percentile(99)),
+                millis(snapshot.percentile(99.9)), millis(snapshot.max()), outcomes);
+    }
+
+    private Snapshot total() {
+        List<long[]> latencies = new ArrayList<>();
+        Map<String, Long> outcomes = new TreeMap<>();
+        for (Snapshot snapshot : snapshots.values()) {
+            latencies.add(snapshot.sortedLatencies());
+            snapshot.outcomes().forEach((outcome, count) -> outcomes.merge(outcome, count, Long::sum));
+        }
+        long[] merged = latencies.stream()
+                .flatMapToLong(LongStream::of)
+                .sorted()
+                .toArray();
+        return new Snapshot(merged, outcomes);
+    }
+
+    private String millis(long nanos) {
+        return String.format("%.2f", nanos / NANOS_PER_MILLI);
+    }
+}
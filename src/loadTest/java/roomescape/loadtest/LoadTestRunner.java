@@ -0,0 +1,176 @@
+package roomescape.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import roomescape.RoomescapeApplication;
+import roomescape.loadtest.LatencyRecorder.Snapshot;
+
+public class LoadTestRunner {
+    private static final int TIME_COUNT = 12;
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final URI baseUri;
+    private final Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+
+    LoadTestRunner(LoadTestOptions options, HttpClient client, URI baseUri) {
+        this.options = options;
+        this.client = client;
+        this.baseUri = baseUri;
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RoomescapeApplication.class)
+                .properties(
+                        "server.port=0",
+                        "management.server.port=-1",
+                        "roomescape.rate-limit.enabled=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.roomescape=off"
+                )
+                .run(args)) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            LoadTestRunner runner = new LoadTestRunner(options, client, URI.create("http://localhost:" + port));
+            LoadTestReport report = runner.run(workers);
+            report.writeTo(options.output());
+            System.out.print(report.render());
+            System.out.println("결과 파일: " + options.output().toAbsolutePath());
+        }
+    }
+
+    LoadTestReport run(ExecutorService workers) throws IOException, InterruptedException {
+        BookingTraffic traffic = new BookingTraffic(baseUri, seedThemes(), seedTimes(), options);
+        long intervalNanos = options.intervalNanos();
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + options.warmup().toNanos();
+        long endAt = measureFrom + options.duration().toNanos();
+        for (long arrival = 0; ; arrival++) {
+            long intendedAt = startedAt + arrival * intervalNanos;
+            if (intendedAt - endAt >= 0) {
+                break;
+            }
+            parkUntil(intendedAt);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Endpoint endpoint = Endpoint.pick(random.nextInt(Endpoint.totalWeight()));
+            HttpRequest request = traffic.next(endpoint, random);
+            boolean measured = intendedAt - measureFrom >= 0;
+            workers.execute(new PendingRequest(endpoint, request, intendedAt, measured));
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+            for (Runnable unstarted : workers.shutdownNow()) {
+                ((PendingRequest) unstarted).abandon();
+            }
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        Map<Endpoint, Snapshot> snapshots = new EnumMap<>(Endpoint.class);
+        recorders.forEach((endpoint, recorder) -> snapshots.put(endpoint, recorder.snapshot()));
+        return new LoadTestReport(options, snapshots, endAt - measureFrom);
+    }
+
+    private void send(Endpoint endpoint, HttpRequest request, long intendedAt, boolean measured) {
+        String outcome;
+        try {
+            HttpResponse<Void> response = client.send(request, BodyHandlers.discarding());
+            outcome = String.valueOf(response.statusCode());
+        } catch (IOException e) {
+            outcome = e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "Cancelled";
+        }
+        record(endpoint, intendedAt, measured, outcome);
+    }
+
+    private void record(Endpoint endpoint, long intendedAt, boolean measured, String outcome) {
+        if (measured) {
+            recorders.get(endpoint).record(System.nanoTime() - intendedAt, outcome);
+        }
+    }
+
+    private void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private List<Long> seedThemes() throws IOException, InterruptedException {
+        List<Long> themeIds = new ArrayList<>();
+        for (int i = 1; i <= options.themeCount(); i++) {
+            themeIds.add(create("/themes", String.format(
+                    "{\"name\":\"부하 테마%d\",\"description\":\"부하 테스트\",\"thumbnail\":\"https://example.com/%d.png\"}",
+                    i, i)));
+        }
+        return themeIds;
+    }
+
+    private List<Long> seedTimes() throws IOException, InterruptedException {
+        List<Long> timeIds = new ArrayList<>();
+        for (int hour = 1; hour <= TIME_COUNT; hour++) {
+            timeIds.add(create("/times", String.format("{\"startAt\":\"%02d:00\"}", hour)));
+        }
+        return timeIds;
+    }
+
+    private long create(String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<Void> response = client.send(request, BodyHandlers.discarding());
+        String location = response.headers()
+                .firstValue("Location")
+                .orElseThrow(() -> new IllegalStateException(path + " 초기 데이터 생성에 실패했습니다: " + response.statusCode()));
+        return Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+    }
+
+    private class PendingRequest implements Runnable {
+        private final Endpoint endpoint;
+        private final HttpRequest request;
+        private final long intendedAt;
+        private final boolean measured;
+
+        PendingRequest(Endpoint endpoint, HttpRequest request, long intendedAt, boolean measured) {
+            this.endpoint = endpoint;
+            this.request = request;
+            this.intendedAt = intendedAt;
+            this.measured = measured;
+        }
+
+        @Override
+        public void run() {
+            send(endpoint, request, intendedAt, measured);
+        }
+
+        void abandon() {
+            record(endpoint, intendedAt, measured, "Unfinished");
+        }
+    }
+}
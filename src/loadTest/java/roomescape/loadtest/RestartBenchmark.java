@@ -0,0 +1,141 @@
+package roomescape.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+import roomescape.RoomescapeApplication;
+import roomescape.domain.ThemeRepository;
+import roomescape.infrastructure.snapshot.H2SnapshotManager;
+
+public class RestartBenchmark {
+    private static final int THEME_COUNT = 50;
+    private static final int TIME_COUNT = 30;
+    private static final String INSERT_TIMES_SQL = """
+            insert into reservation_time (id, start_at)
+            select x, cast(dateadd('MINUTE', x * 20, timestamp '2000-01-01 09:00:00') as time)
+            from system_range(1, %d)
+            """;
+    private static final String INSERT_THEMES_SQL = """
+            insert into theme (id, name, description, thumbnail)
+            select x, '테마' || x, '테마 설명', 'https://example.com/thumbnail.png'
+            from system_range(1, %d)
+            """;
+    private static final String INSERT_RESERVATIONS_SQL = """
+            insert into reservation (name, date, time_id, theme_id)
+            select '예약자' || mod(x, 1000), dateadd('DAY', x / %d, date '2025-01-01'),
+            mod(x, %d) + 1, mod(x / %d, %d) + 1
+            from system_range(0, %d)
+            """;
+    private static final String ROW_FORMAT = "%-26s %9s %9s %9s%n";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Path directory;
+    private final int rows;
+
+    RestartBenchmark(Path directory, int rows) {
+        this.directory = directory;
+        this.rows = rows;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of(System.getProperty("restart.directory", "build/tmp/restart-benchmark"));
+        int rows = Integer.getInteger("restart.rows", 1_000_000);
+        int runs = Integer.getInteger("restart.runs", 3);
+        Path output = Path.of(System.getProperty("restart.output", "build/reports/restart/results.txt"));
+        RestartBenchmark benchmark = new RestartBenchmark(directory, rows);
+
+        benchmark.prepare();
+        Map<String, List<Long>> results = new LinkedHashMap<>();
+        for (int i = 0; i < runs; i++) {
+            results.computeIfAbsent("memory + seed", ignored -> new ArrayList<>()).add(benchmark.seededMemoryBoot());
+            results.computeIfAbsent("file", ignored -> new ArrayList<>()).add(benchmark.fileBoot());
+            results.computeIfAbsent("snapshot restore + file", ignored -> new ArrayList<>())
+                    .add(benchmark.restoredFileBoot());
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("rows=%d runs=%d%n%n", rows, runs));
+        report.append(String.format(ROW_FORMAT, "mode", "min(ms)", "median(ms)", "max(ms)"));
+        results.forEach((mode, nanos) -> {
+            long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+            report.append(String.format(ROW_FORMAT, mode, millis(sorted[0]), millis(sorted[sorted.length / 2]),
+                    millis(sorted[sorted.length - 1])));
+        });
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, report.toString());
+        System.out.print(report);
+        System.out.println("결과 파일: " + output.toAbsolutePath());
+    }
+
+    private void prepare() throws IOException {
+        FileSystemUtils.deleteRecursively(directory);
+        try (ConfigurableApplicationContext context = persistent().run()) {
+            seed(context);
+            context.getBean(ThemeRepository.class).backfillDailyStats();
+            context.getBean(H2SnapshotManager.class).create();
+        }
+    }
+
+    private long seededMemoryBoot() {
+        long startedAt = System.nanoTime();
+        try (ConfigurableApplicationContext context = application()
+                .properties("roomescape.theme-stats.backfill-on-startup=false")
+                .run()) {
+            seed(context);
+            context.getBean(ThemeRepository.class).backfillDailyStats();
+            return System.nanoTime() - startedAt;
+        }
+    }
+
+    private long fileBoot() {
+        long startedAt = System.nanoTime();
+        try (ConfigurableApplicationContext ignored = persistent().run()) {
+            return System.nanoTime() - startedAt;
+        }
+    }
+
+    private long restoredFileBoot() {
+        long startedAt = System.nanoTime();
+        try (ConfigurableApplicationContext ignored = persistent()
+                .properties("roomescape.persistence.restore-from=latest")
+                .run()) {
+            return System.nanoTime() - startedAt;
+        }
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update(INSERT_TIMES_SQL.formatted(TIME_COUNT));
+        jdbcTemplate.update(INSERT_THEMES_SQL.formatted(THEME_COUNT));
+        jdbcTemplate.update(INSERT_RESERVATIONS_SQL.formatted(
+                THEME_COUNT * TIME_COUNT, TIME_COUNT, TIME_COUNT, THEME_COUNT, rows - 1
+        ));
+    }
+
+    private SpringApplicationBuilder persistent() {
+        return application()
+                .profiles("persistent")
+                .properties("roomescape.persistence.directory=" + directory.toAbsolutePath());
+    }
+
+    private SpringApplicationBuilder application() {
+        return new SpringApplicationBuilder(RoomescapeApplication.class)
+                .properties(
+                        "server.port=0",
+                        "management.server.port=-1",
+                        "spring.main.banner-mode=off"
+                );
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,141 @@
+package roomescape.loadtest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+public class StartupBenchmark {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final long POLL_INTERVAL_MILLIS = 5;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String ROW_FORMAT = "%-12s %-22s %9s %9s %9s%n";
+
+    private final String java;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    StartupBenchmark(String java) {
+        this.java = java;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        Path bootJar = Path.of(System.getProperty("startup.boot-jar"));
+        Path cdsDir = Path.of(System.getProperty("startup.cds-dir"));
+        Path output = Path.of(System.getProperty("startup.output", "build/reports/startup/results.txt"));
+        StartupBenchmark benchmark = new StartupBenchmark(System.getProperty("startup.java", "java"));
+
+        List<Launch> launches = List.of(
+                new Launch("boot-jar", bootJar.toAbsolutePath().getParent(),
+                        List.of("-jar", bootJar.toAbsolutePath().toString())),
+                new Launch("aot-cds", cdsDir, List.of(
+                        "-XX:SharedArchiveFile=roomescape.jsa",
+                        "-Dspring.aot.enabled=true",
+                        "-Dspring.profiles.active=fast-startup",
+                        "-jar", "roomescape.jar"))
+        );
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("runs=%d%n%n", runs));
+        report.append(String.format(ROW_FORMAT, "mode", "metric", "min(ms)", "median(ms)", "max(ms)"));
+        for (Launch launch : launches) {
+            List<Measurement> measurements = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                measurements.add(benchmark.measure(launch));
+            }
+            report.append(row(launch.name(), "startup", measurements, Measurement::startupNanos));
+            report.append(row(launch.name(), "first GET /themes", measurements, Measurement::firstApiNanos));
+            report.append(row(launch.name(), "first GET /admin", measurements, Measurement::firstPageNanos));
+        }
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, report.toString());
+        System.out.print(report);
+        System.out.println("결과 파일: " + output.toAbsolutePath());
+    }
+
+    private Measurement measure(Launch launch) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(launch.arguments());
+        command.addAll(List.of("--server.port=" + port, "--management.server.port=-1"));
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(launch.workingDirectory().toFile())
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            awaitPort(process, port, startedAt);
+            long startupNanos = System.nanoTime() - startedAt;
+            long firstApiNanos = timeRequest(port, "/themes");
+            long firstPageNanos = timeRequest(port, "/admin");
+            return new Measurement(startupNanos, firstApiNanos, firstPageNanos);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private void awaitPort(Process process, int port, long startedAt) throws InterruptedException {
+        while (System.nanoTime() - startedAt < STARTUP_TIMEOUT.toNanos()) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 시작 중에 종료되었습니다: " + process.exitValue());
+            }
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port));
+                return;
+            } catch (IOException e) {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+        }
+        throw new IllegalStateException("애플리케이션이 제한 시간 안에 시작되지 않았습니다.");
+    }
+
+    private long timeRequest(int port, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .GET()
+                .build();
+        long startedAt = System.nanoTime();
+        int status = client.send(request, BodyHandlers.discarding()).statusCode();
+        long elapsed = System.nanoTime() - startedAt;
+        if (status != 200) {
+            throw new IllegalStateException(path + " 요청이 실패했습니다: " + status);
+        }
+        return elapsed;
+    }
+
+    private int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String row(String mode, String metric, List<Measurement> measurements,
+                              ToLongFunction<Measurement> value) {
+        long[] sorted = measurements.stream().mapToLong(value).sorted().toArray();
+        return String.format(ROW_FORMAT, mode, metric, millis(sorted[0]), millis(sorted[sorted.length / 2]),
+                millis(sorted[sorted.length - 1]));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / NANOS_PER_MILLI);
+    }
+
+    private record Launch(String name, Path workingDirectory, List<String> arguments) {
+    }
+
+    private record Measurement(long startupNanos, long firstApiNanos, long firstPageNanos) {
+    }
+}
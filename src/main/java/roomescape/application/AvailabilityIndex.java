@@ -0,0 +1,189 @@
+package roomescape.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.domain.ReservationRepository;
+import roomescape.domain.ReservationSlot;
+import roomescape.domain.ReservationTimeRepository;
+import roomescape.domain.TimeSlot;
+
+@Component
+public class AvailabilityIndex {
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityIndex.class);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationTimeRepository reservationTimeRepository;
+    private final TransactionTemplate primaryReadTemplate;
+    private final Clock clock;
+    private final long cacheHorizonDays;
+    private final int maxEntries;
+    private final Map<SlotKey, BitSet> bookedTimeIds = new ConcurrentHashMap<>();
+    private final AtomicLong changeCount = new AtomicLong();
+
+    public AvailabilityIndex(ReservationRepository reservationRepository,
+                             ReservationTimeRepository reservationTimeRepository,
+                             PlatformTransactionManager transactionManager,
+                             Clock clock,
+                             @Value("${roomescape.availability.cache-horizon:P90D}") Duration cacheHorizon,
+                             @Value("${roomescape.availability.max-entries:100000}") int maxEntries) {
+        this.reservationRepository = reservationRepository;
+        this.reservationTimeRepository = reservationTimeRepository;
+        this.primaryReadTemplate = new TransactionTemplate(transactionManager);
+        this.primaryReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        this.clock = clock;
+        this.cacheHorizonDays = cacheHorizon.toDays();
+        this.maxEntries = maxEntries;
+    }
+
+    public List<TimeSlot> getTimeSlots(LocalDate date, long themeId) {
+        BitSet booked = getBookedTimeIds(date, themeId);
+        return reservationTimeRepository.findAll()
+                .stream()
+                .map(time -> new TimeSlot(time, booked.get(toIndex(time.getId()))))
+                .toList();
+    }
+
+    private BitSet getBookedTimeIds(LocalDate date, long themeId) {
+        SlotKey key = new SlotKey(date, themeId);
+        BitSet cached = bookedTimeIds.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long changeCountBeforeLoad = changeCount.get();
+        BitSet loaded = load(key);
+        if (isCacheable(date) && bookedTimeIds.putIfAbsent(key, loaded) == null
+                && changeCount.get() != changeCountBeforeLoad) {
+            bookedTimeIds.remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    public Map<LocalDate, BitSet> getBookedTimeIds(long themeId, LocalDate from, LocalDate to) {
+        Map<LocalDate, BitSet> result = new LinkedHashMap<>();
+        List<LocalDate> missingDates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            BitSet booked = bookedTimeIds.get(new SlotKey(date, themeId));
+            result.put(date, booked);
+            if (booked == null) {
+                missingDates.add(date);
+            }
+        }
+        if (!missingDates.isEmpty()) {
+            loadRange(themeId, missingDates, result);
+        }
+        return result;
+    }
+
+    private void loadRange(long themeId, List<LocalDate> missingDates, Map<LocalDate, BitSet> result) {
+        long changeCountBeforeLoad = changeCount.get();
+        LocalDate from = missingDates.get(0);
+        LocalDate to = missingDates.get(missingDates.size() - 1);
+        Map<LocalDate, BitSet> loaded = new HashMap<>();
+        List<ReservationSlot> slots = primaryReadTemplate.execute(
+                status -> reservationRepository.findSlotsByThemeIdAndDateBetween(themeId, from, to));
+        for (ReservationSlot slot : slots) {
+            loaded.computeIfAbsent(slot.date(), ignored -> new BitSet()).set(toIndex(slot.timeId()));
+        }
+
+        List<SlotKey> cachedKeys = new ArrayList<>();
+        for (LocalDate date : missingDates) {
+            BitSet booked = loaded.getOrDefault(date, new BitSet());
+            result.put(date, booked);
+            SlotKey key = new SlotKey(date, themeId);
+            if (isCacheable(date) && bookedTimeIds.putIfAbsent(key, booked) == null) {
+                cachedKeys.add(key);
+            }
+        }
+        if (changeCount.get() != changeCountBeforeLoad) {
+            cachedKeys.forEach(bookedTimeIds::remove);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotChanged(SlotChangedEvent event) {
+        changeCount.incrementAndGet();
+        SlotKey key = new SlotKey(event.date(), event.themeId());
+        int index = toIndex(event.timeId());
+        bookedTimeIds.computeIfPresent(key, (ignored, booked) -> {
+            BitSet updated = (BitSet) booked.clone();
+            updated.set(index, event.booked());
+            return updated;
+        });
+    }
+
+    @Scheduled(cron = "${roomescape.availability.eviction-cron:0 0 0 * * *}")
+    public void evictPastDates() {
+        LocalDate today = today();
+        bookedTimeIds.keySet().removeIf(key -> key.date().isBefore(today));
+    }
+
+    @Scheduled(
+            initialDelayString = "${roomescape.availability.consistency-check-interval:PT10M}",
+            fixedDelayString = "${roomescape.availability.consistency-check-interval:PT10M}"
+    )
+    public int checkConsistency() {
+        int repairedCount = 0;
+        for (SlotKey key : bookedTimeIds.keySet()) {
+            long changeCountBeforeLoad = changeCount.get();
+            BitSet actual = load(key);
+            BitSet cached = bookedTimeIds.get(key);
+            if (cached == null || changeCount.get() != changeCountBeforeLoad || actual.equals(cached)) {
+                continue;
+            }
+            if (bookedTimeIds.replace(key, cached, actual)) {
+                logger.warn("예약 가능 시간 인덱스가 데이터베이스와 다릅니다. key={}, cached={}, actual={}",
+                        key, cached, actual);
+                repairedCount++;
+            }
+        }
+        return repairedCount;
+    }
+
+    public void clear() {
+        bookedTimeIds.clear();
+    }
+
+    private BitSet load(SlotKey key) {
+        BitSet booked = new BitSet();
+        List<Long> timeIds = primaryReadTemplate.execute(
+                status -> reservationRepository.findTimeIdsByDateAndThemeId(key.date(), key.themeId()));
+        timeIds.forEach(timeId -> booked.set(toIndex(timeId)));
+        return booked;
+    }
+
+    private boolean isCacheable(LocalDate date) {
+        LocalDate today = today();
+        return !date.isBefore(today)
+                && !date.isAfter(today.plusDays(cacheHorizonDays))
+                && bookedTimeIds.size() < maxEntries;
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    private int toIndex(long timeId) {
+        return Math.toIntExact(timeId);
+    }
+
+    private record SlotKey(LocalDate date, long themeId) {
+    }
+}
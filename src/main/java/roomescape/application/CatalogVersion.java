@@ -0,0 +1,58 @@
+package roomescape.application;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import roomescape.domain.ReservationTimeRepository;
+import roomescape.domain.ThemeRepository;
+
+@Component
+public class CatalogVersion {
+    private final ThemeRepository themeRepository;
+    private final ReservationTimeRepository reservationTimeRepository;
+    private final AtomicLong slotChangeCount = new AtomicLong();
+    private final AtomicReference<PopularThemesTag> popularThemesTag = new AtomicReference<>();
+
+    public CatalogVersion(ThemeRepository themeRepository, ReservationTimeRepository reservationTimeRepository) {
+        this.themeRepository = themeRepository;
+        this.reservationTimeRepository = reservationTimeRepository;
+    }
+
+    public String getThemesTag() {
+        return "themes-" + themeRepository.findVersion().value();
+    }
+
+    public String getTimesTag() {
+        return "times-" + reservationTimeRepository.findVersion().value();
+    }
+
+    public String getPopularThemesTag(LocalDate startDate, LocalDate endDate, int limit) {
+        long changeCount = slotChangeCount.get();
+        PopularThemesTag cached = popularThemesTag.get();
+        if (cached != null && cached.startDate().equals(startDate) && cached.changeCount() == changeCount) {
+            return cached.value();
+        }
+        String ranking = themeRepository.findPopularThemesDateBetween(startDate, endDate, limit)
+                .stream()
+                .map(theme -> String.valueOf(theme.getId()))
+                .collect(Collectors.joining("."));
+        String value = "popular-" + startDate + "-" + ranking;
+        popularThemesTag.set(new PopularThemesTag(startDate, changeCount, value));
+        return value;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotChanged(SlotChangedEvent event) {
+        slotChangeCount.incrementAndGet();
+    }
+
+    public void clear() {
+        popularThemesTag.set(null);
+    }
+
+    private record PopularThemesTag(LocalDate startDate, long changeCount, String value) {
+    }
+}
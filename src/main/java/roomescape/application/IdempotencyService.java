@@ -0,0 +1,177 @@
+package roomescape.application;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.domain.IdempotentResponse;
+import roomescape.domain.IdempotentResponseRepository;
+import roomescape.exception.RoomescapeException;
+
+@Service
+public class IdempotencyService {
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotentResponseRepository idempotentResponseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Lock lock = new ReentrantLock();
+    private final Map<String, IdempotentResponse> responses;
+    private final Map<String, CompletableFuture<IdempotentResponse>> inFlightResponses = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotentResponseRepository idempotentResponseRepository,
+                              PlatformTransactionManager transactionManager,
+                              Clock clock,
+                              @Value("${roomescape.idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${roomescape.idempotency.cache-size:10000}") int cacheSize) {
+        this.idempotentResponseRepository = idempotentResponseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.ttl = ttl;
+        this.responses = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotentResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public String execute(String key, String request, Supplier<String> action) {
+        validateKey(key);
+        String requestHash = hash(request);
+        IdempotentResponse response = findCached(key);
+        if (response == null) {
+            CompletableFuture<IdempotentResponse> inFlight = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> existing = inFlightResponses.putIfAbsent(key, inFlight);
+            response = existing == null ? run(key, requestHash, action, inFlight) : await(existing);
+        }
+        if (!response.hasRequestHash(requestHash)) {
+            throw new RoomescapeException("같은 멱등 키로 다른 요청을 보낼 수 없습니다.");
+        }
+        return response.body();
+    }
+
+    private void validateKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new RoomescapeException(String.format("멱등 키는 1자 이상 %d자 이하여야 합니다.", MAX_KEY_LENGTH));
+        }
+    }
+
+    private IdempotentResponse findCached(String key) {
+        lock.lock();
+        try {
+            IdempotentResponse cached = responses.get(key);
+            if (cached != null && cached.isCreatedBefore(expiredAt())) {
+                responses.remove(key);
+                return null;
+            }
+            return cached;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private IdempotentResponse run(String key, String requestHash, Supplier<String> action,
+                                   CompletableFuture<IdempotentResponse> inFlight) {
+        try {
+            IdempotentResponse response = idempotentResponseRepository.findByKey(key)
+                    .filter(stored -> !stored.isCreatedBefore(expiredAt()))
+                    .orElseGet(() -> saveOrLoad(key, requestHash, action));
+            cache(response);
+            inFlight.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            inFlight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightResponses.remove(key, inFlight);
+        }
+    }
+
+    private IdempotentResponse saveOrLoad(String key, String requestHash, Supplier<String> action) {
+        try {
+            return transactionTemplate.execute(status -> {
+                idempotentResponseRepository.deleteByKeyCreatedBefore(key, expiredAt());
+                IdempotentResponse response = new IdempotentResponse(
+                        key, requestHash, action.get(), LocalDateTime.now(clock)
+                );
+                idempotentResponseRepository.save(response);
+                return response;
+            });
+        } catch (DuplicateKeyException e) {
+            return idempotentResponseRepository.findByKey(key).orElseThrow(() -> e);
+        }
+    }
+
+    private IdempotentResponse await(CompletableFuture<IdempotentResponse> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void cache(IdempotentResponse response) {
+        lock.lock();
+        try {
+            responses.put(response.key(), response);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${roomescape.idempotency.purge-interval:PT1H}")
+    public int purgeExpired() {
+        LocalDateTime expiredAt = expiredAt();
+        lock.lock();
+        try {
+            responses.values().removeIf(response -> response.isCreatedBefore(expiredAt));
+        } finally {
+            lock.unlock();
+        }
+        return idempotentResponseRepository.deleteCreatedBefore(expiredAt);
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            responses.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private LocalDateTime expiredAt() {
+        return LocalDateTime.now(clock).minus(ttl);
+    }
+
+    private String hash(String request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(request.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package roomescape.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.application.dto.request.ReservationSearchRequest;
+import roomescape.application.dto.response.ReservationPageResponse;
+import roomescape.domain.ReservationArchiveRepository;
+import roomescape.domain.ReservationPage;
+
+@Service
+public class ReservationArchiveService {
+    private static final Logger logger = LoggerFactory.getLogger(ReservationArchiveService.class);
+    private static final Duration MIN_HORIZON = Duration.ofDays(8);
+
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration horizon;
+    private final int chunkSize;
+
+    public ReservationArchiveService(ReservationArchiveRepository reservationArchiveRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     Clock clock,
+                                     @Value("${roomescape.archive.horizon:P30D}") Duration horizon,
+                                     @Value("${roomescape.archive.chunk-size:1000}") int chunkSize) {
+        if (horizon.compareTo(MIN_HORIZON) < 0) {
+            throw new IllegalArgumentException(
+                    String.format("예약 보관 기준은 %d일 이상이어야 합니다.", MIN_HORIZON.toDays()));
+        }
+        this.reservationArchiveRepository = reservationArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.horizon = horizon;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${roomescape.archive.cron:0 30 3 * * *}")
+    public int archive() {
+        LocalDate cutoff = LocalDate.now(clock).minusDays(horizon.toDays());
+        int archivedCount = 0;
+        int chunkCount;
+        do {
+            chunkCount = transactionTemplate.execute(
+                    status -> reservationArchiveRepository.archiveDateBefore(cutoff, chunkSize));
+            archivedCount += chunkCount;
+        } while (chunkCount == chunkSize);
+        if (archivedCount > 0) {
+            logger.info("{} 이전 예약 {}건을 보관 테이블로 옮겼습니다.", cutoff, archivedCount);
+        }
+        return archivedCount;
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationPageResponse findAll(ReservationSearchRequest request) {
+        ReservationPage page = reservationArchiveRepository.findPage(
+                request.toFilter(), request.cursor(), request.pageSize()
+        );
+        return ReservationPageResponse.from(page);
+    }
+}
@@ -2,17 +2,41 @@ package roomescape.application;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.application.dto.request.ReservationBatchMode;
+import roomescape.application.dto.request.ReservationBatchRequest;
 import roomescape.application.dto.request.ReservationRequest;
+import roomescape.application.dto.request.ReservationSearchRequest;
+import roomescape.application.dto.response.ReservationBatchItemResponse;
+import roomescape.application.dto.response.ReservationBatchResponse;
+import roomescape.application.dto.response.ReservationPageResponse;
 import roomescape.application.dto.response.ReservationResponse;
 import roomescape.domain.Reservation;
+import roomescape.domain.ReservationPage;
 import roomescape.domain.ReservationRepository;
+import roomescape.domain.ReservationSlot;
 import roomescape.domain.ReservationTime;
 import roomescape.domain.ReservationTimeRepository;
 import roomescape.domain.Theme;
 import roomescape.domain.ThemeRepository;
+import roomescape.exception.RejectionReason;
 import roomescape.exception.RoomescapeException;
 
 
@@ -21,46 +45,182 @@ public class ReservationService {
     private final ReservationRepository reservationRepository;
     private final ReservationTimeRepository reservationTimeRepository;
     private final ThemeRepository themeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotAdmission slotAdmission;
+    private final TransactionTemplate nestedTransactionTemplate;
     private final Clock clock;
 
     public ReservationService(ReservationRepository reservationRepository,
                               ReservationTimeRepository reservationTimeRepository,
                               ThemeRepository themeRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              SlotAdmission slotAdmission,
+                              PlatformTransactionManager transactionManager,
                               Clock clock) {
         this.reservationRepository = reservationRepository;
         this.reservationTimeRepository = reservationTimeRepository;
         this.themeRepository = themeRepository;
+        this.eventPublisher = eventPublisher;
+        this.slotAdmission = slotAdmission;
+        this.nestedTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.nestedTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
         this.clock = clock;
     }
 
     @Transactional
     public ReservationResponse create(ReservationRequest request) {
         Theme theme = themeRepository.findById(request.themeId())
-                .orElseThrow(() -> new RoomescapeException("존재하지 않는 테마 입니다."));
+                .orElseThrow(() -> new RoomescapeException(RejectionReason.NOT_FOUND, "존재하지 않는 테마 입니다."));
         ReservationTime reservationTime = reservationTimeRepository.findById(request.timeId())
-                .orElseThrow(() -> new RoomescapeException("존재하지 않는 예약 시간 입니다."));
+                .orElseThrow(() -> new RoomescapeException(RejectionReason.NOT_FOUND, "존재하지 않는 예약 시간 입니다."));
 
-        if (reservationRepository.existsBy(request.parsedDate(), request.timeId(), request.themeId())) {
-            throw new RoomescapeException("이미 존재하는 예약입니다.");
-        }
         Reservation reservation = request.toReservation(reservationTime, theme);
+        validateNotPast(reservation);
+        if (!slotAdmission.tryAcquire(reservation.getSlot())) {
+            throw new RoomescapeException(RejectionReason.DUPLICATED, "이미 존재하는 예약입니다.");
+        }
+        Reservation savedReservation = save(reservation);
+        eventPublisher.publishEvent(SlotChangedEvent.booked(savedReservation));
+        return ReservationResponse.from(savedReservation);
+    }
+
+    private void validateNotPast(Reservation reservation) {
         if (reservation.isBefore(LocalDateTime.now(clock))) {
-            throw new RoomescapeException("현재 시간보다 과거로 예약할 수 없습니다.");
+            throw new RoomescapeException(RejectionReason.PAST_DATE_TIME, "현재 시간보다 과거로 예약할 수 없습니다.");
         }
-        return ReservationResponse.from(reservationRepository.create(reservation));
     }
 
-    public List<ReservationResponse> findAll() {
-        return reservationRepository.findAll()
+    private Reservation save(Reservation reservation) {
+        try {
+            return reservationRepository.create(reservation);
+        } catch (DuplicateKeyException e) {
+            throw new RoomescapeException(RejectionReason.DUPLICATED, "이미 존재하는 예약입니다.");
+        }
+    }
+
+    @Transactional
+    public ReservationBatchResponse createAll(ReservationBatchRequest request) {
+        List<ReservationRequest> requests = request.reservations();
+        Map<Long, Theme> themes = themeRepository.findAllByIds(collectIds(requests, ReservationRequest::themeId))
+                .stream()
+                .collect(Collectors.toMap(Theme::getId, Function.identity()));
+        Map<Long, ReservationTime> times = reservationTimeRepository.findAllByIds(
+                        collectIds(requests, ReservationRequest::timeId))
+                .stream()
+                .collect(Collectors.toMap(ReservationTime::getId, Function.identity()));
+
+        ReservationBatchItemResponse[] results = new ReservationBatchItemResponse[requests.size()];
+        Map<Integer, Reservation> candidates = new LinkedHashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                candidates.put(index, toReservation(requests.get(index), themes, times));
+            } catch (RoomescapeException | IllegalArgumentException e) {
+                results[index] = ReservationBatchItemResponse.rejected(index, e.getMessage());
+            }
+        }
+
+        List<ReservationSlot> requestedSlots = candidates.values()
                 .stream()
-                .map(ReservationResponse::from)
+                .map(Reservation::getSlot)
                 .toList();
+        Set<ReservationSlot> takenSlots = new HashSet<>(reservationRepository.findExistingSlots(requestedSlots));
+        Map<Integer, Reservation> accepted = new LinkedHashMap<>();
+        candidates.forEach((index, reservation) -> {
+            if (takenSlots.add(reservation.getSlot()) && slotAdmission.tryAcquire(reservation.getSlot())) {
+                accepted.put(index, reservation);
+                return;
+            }
+            results[index] = ReservationBatchItemResponse.rejected(index, "이미 존재하는 예약입니다.");
+        });
+
+        ReservationBatchMode mode = request.batchMode();
+        if (mode == ReservationBatchMode.ALL_OR_NOTHING && accepted.size() < requests.size()) {
+            accepted.keySet().forEach(index -> results[index] = ReservationBatchItemResponse.rejected(
+                    index, "다른 예약이 실패하여 함께 취소되었습니다."
+            ));
+            return ReservationBatchResponse.of(mode, List.of(results));
+        }
+
+        saveAll(accepted, mode, results).forEach((index, savedReservation) -> {
+            results[index] = ReservationBatchItemResponse.created(index, savedReservation);
+            eventPublisher.publishEvent(SlotChangedEvent.booked(savedReservation));
+        });
+        return ReservationBatchResponse.of(mode, List.of(results));
+    }
+
+    private Set<Long> collectIds(Collection<ReservationRequest> requests, Function<ReservationRequest, Long> idGetter) {
+        return requests.stream()
+                .map(idGetter)
+                .collect(Collectors.toSet());
+    }
+
+    private Reservation toReservation(ReservationRequest request,
+                                      Map<Long, Theme> themes,
+                                      Map<Long, ReservationTime> times) {
+        Theme theme = themes.get(request.themeId());
+        if (theme == null) {
+            throw new RoomescapeException(RejectionReason.NOT_FOUND, "존재하지 않는 테마 입니다.");
+        }
+        ReservationTime reservationTime = times.get(request.timeId());
+        if (reservationTime == null) {
+            throw new RoomescapeException(RejectionReason.NOT_FOUND, "존재하지 않는 예약 시간 입니다.");
+        }
+        Reservation reservation = request.toReservation(reservationTime, theme);
+        validateNotPast(reservation);
+        return reservation;
+    }
+
+    private Map<Integer, Reservation> saveAll(Map<Integer, Reservation> accepted,
+                                              ReservationBatchMode mode,
+                                              ReservationBatchItemResponse[] results) {
+        List<Reservation> savedReservations;
+        try {
+            savedReservations = nestedTransactionTemplate.execute(
+                    status -> reservationRepository.createAll(new ArrayList<>(accepted.values())));
+        } catch (DuplicateKeyException e) {
+            if (mode == ReservationBatchMode.ALL_OR_NOTHING) {
+                throw new RoomescapeException(RejectionReason.DUPLICATED, "이미 존재하는 예약입니다.");
+            }
+            return saveEach(accepted, results);
+        }
+        Map<Integer, Reservation> saved = new LinkedHashMap<>();
+        Iterator<Reservation> iterator = savedReservations.iterator();
+        accepted.keySet().forEach(index -> saved.put(index, iterator.next()));
+        return saved;
+    }
+
+    private Map<Integer, Reservation> saveEach(Map<Integer, Reservation> accepted,
+                                               ReservationBatchItemResponse[] results) {
+        Map<Integer, Reservation> saved = new LinkedHashMap<>();
+        accepted.forEach((index, reservation) -> {
+            try {
+                saved.put(index, nestedTransactionTemplate.execute(
+                        status -> reservationRepository.create(reservation)));
+            } catch (DuplicateKeyException e) {
+                results[index] = ReservationBatchItemResponse.rejected(index, "이미 존재하는 예약입니다.");
+            }
+        });
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationPageResponse findAll(ReservationSearchRequest request) {
+        ReservationPage page = reservationRepository.findPage(
+                request.toFilter(), request.cursor(), request.pageSize()
+        );
+        return ReservationPageResponse.from(page);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(Consumer<ReservationResponse> consumer) {
+        reservationRepository.scanAll(reservation -> consumer.accept(ReservationResponse.from(reservation)));
     }
 
     @Transactional
     public void deleteById(long id) {
         Reservation reservation = reservationRepository.findById(id)
-                .orElseThrow(() -> new RoomescapeException("존재하지 않는 예약 입니다."));
+                .orElseThrow(() -> new RoomescapeException(RejectionReason.NOT_FOUND, "존재하지 않는 예약 입니다."));
         reservationRepository.deleteById(reservation.getId());
+        eventPublisher.publishEvent(SlotChangedEvent.freed(reservation));
     }
 }
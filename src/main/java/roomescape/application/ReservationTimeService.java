@@ -1,37 +1,60 @@
 package roomescape.application;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import roomescape.application.dto.request.ReservationTimeRequest;
+import roomescape.application.dto.response.AvailabilityRangeResponse;
 import roomescape.application.dto.response.AvailableTimeResponse;
+import roomescape.application.dto.response.DailyAvailabilityResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
 import roomescape.domain.ReservationRepository;
 import roomescape.domain.ReservationTime;
 import roomescape.domain.ReservationTimeRepository;
+import roomescape.domain.ThemeRepository;
+import roomescape.exception.RejectionReason;
 import roomescape.exception.RoomescapeException;
 
 @Service
 public class ReservationTimeService {
+    private static final int MAX_AVAILABILITY_RANGE_DAYS = 31;
+
     private final ReservationTimeRepository reservationTimeRepository;
     private final ReservationRepository reservationRepository;
+    private final ThemeRepository themeRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final CatalogVersion catalogVersion;
 
     public ReservationTimeService(ReservationTimeRepository reservationTimeRepository,
-                                  ReservationRepository reservationRepository) {
+                                  ReservationRepository reservationRepository,
+                                  ThemeRepository themeRepository,
+                                  AvailabilityIndex availabilityIndex,
+                                  CatalogVersion catalogVersion) {
         this.reservationTimeRepository = reservationTimeRepository;
         this.reservationRepository = reservationRepository;
+        this.themeRepository = themeRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.catalogVersion = catalogVersion;
     }
 
     @Transactional
     public ReservationTimeResponse create(ReservationTimeRequest request) {
         if (reservationTimeRepository.existsByStartAt(request.parsedStartAt())) {
-            throw new RoomescapeException("이미 존재하는 예약입니다.");
+            throw new RoomescapeException(RejectionReason.DUPLICATED, "이미 존재하는 예약입니다.");
         }
         ReservationTime reservationTime = reservationTimeRepository.create(request.toReservationTime());
         return ReservationTimeResponse.from(reservationTime);
     }
 
+    public String getCatalogTag() {
+        return catalogVersion.getTimesTag();
+    }
+
+    @Transactional(readOnly = true)
     public List<ReservationTimeResponse> findAll() {
         return reservationTimeRepository.findAll()
                 .stream()
@@ -42,19 +65,63 @@ public class ReservationTimeService {
     @Transactional
     public void deleteById(long id) {
         ReservationTime time = reservationTimeRepository.findById(id)
-                .orElseThrow(() -> new RoomescapeException("존재하지 않는 예약 시간입니다."));
+                .orElseThrow(() -> new RoomescapeException(RejectionReason.NOT_FOUND, "존재하지 않는 예약 시간입니다."));
         if (reservationRepository.existsByTimeId(time.getId())) {
-            throw new RoomescapeException("연관된 예약이 존재하여 삭제할 수 없습니다.");
+            throw new RoomescapeException(RejectionReason.REFERENCED, "연관된 예약이 존재하여 삭제할 수 없습니다.");
         }
         reservationTimeRepository.deleteById(time.getId());
     }
 
+    @Transactional(readOnly = true)
     public List<AvailableTimeResponse> findAvailableTimes(LocalDate date, long themeId) {
-        return reservationTimeRepository.getReservationTimeAvailabilities(date, themeId)
+        validateThemeExists(themeId);
+        return availabilityIndex.getTimeSlots(date, themeId)
                 .stream()
                 .map(timeSlot -> new AvailableTimeResponse(
                         ReservationTimeResponse.from(timeSlot.reservationTime()),
                         timeSlot.isBooked()))
                 .toList();
     }
+
+    @Transactional(readOnly = true)
+    public AvailabilityRangeResponse findAvailabilityRange(long themeId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        validateThemeExists(themeId);
+        List<ReservationTime> times = reservationTimeRepository.findAll();
+        Map<LocalDate, BitSet> bookedTimeIds = availabilityIndex.getBookedTimeIds(themeId, from, to);
+        List<DailyAvailabilityResponse> days = bookedTimeIds.entrySet()
+                .stream()
+                .map(entry -> DailyAvailabilityResponse.of(
+                        entry.getKey(), toTimePositions(entry.getValue(), times), times.size()))
+                .toList();
+        List<ReservationTimeResponse> timeResponses = times.stream()
+                .map(ReservationTimeResponse::from)
+                .toList();
+        return new AvailabilityRangeResponse(timeResponses, days);
+    }
+
+    private void validateThemeExists(long themeId) {
+        if (themeRepository.findById(themeId).isEmpty()) {
+            throw new RoomescapeException(RejectionReason.NOT_FOUND, "존재하지 않는 테마 입니다.");
+        }
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new RoomescapeException("조회 시작 날짜는 종료 날짜보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_AVAILABILITY_RANGE_DAYS) {
+            throw new RoomescapeException("조회 기간은 최대 " + MAX_AVAILABILITY_RANGE_DAYS + "일입니다.");
+        }
+    }
+
+    private BitSet toTimePositions(BitSet bookedTimeIds, List<ReservationTime> times) {
+        BitSet booked = new BitSet(times.size());
+        for (int position = 0; position < times.size(); position++) {
+            if (bookedTimeIds.get(Math.toIntExact(times.get(position).getId()))) {
+                booked.set(position);
+            }
+        }
+        return booked;
+    }
 }
@@ -0,0 +1,62 @@
+package roomescape.application;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import roomescape.domain.ReservationSlot;
+
+@Component
+public class SlotAdmission {
+    private static final long FREE = 0L;
+    private static final int MIN_STRIPES = 16;
+    private static final int THEME_ID_BITS = 21;
+    private static final int TIME_ID_BITS = 20;
+    private static final int DATE_BITS = 22;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray inFlightSlots;
+    private final int shift;
+
+    public SlotAdmission(@Value("${roomescape.admission.stripes:4096}") int stripes) {
+        int size = Integer.highestOneBit(Math.max(stripes, MIN_STRIPES) - 1) << 1;
+        this.inFlightSlots = new AtomicLongArray(size);
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(size);
+    }
+
+    public boolean tryAcquire(ReservationSlot slot) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("예약 슬롯은 트랜잭션 안에서만 선점할 수 있습니다.");
+        }
+        long key = encode(slot);
+        if (key == FREE) {
+            return true;
+        }
+        int stripe = (int) ((key * GOLDEN_RATIO) >>> shift);
+        long holder = inFlightSlots.compareAndExchange(stripe, FREE, key);
+        if (holder == FREE) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    inFlightSlots.compareAndSet(stripe, key, FREE);
+                }
+            });
+            return true;
+        }
+        return holder != key;
+    }
+
+    private long encode(ReservationSlot slot) {
+        long epochDay = slot.date().toEpochDay();
+        if (!fits(epochDay + 1, DATE_BITS) || !fits(slot.timeId(), TIME_ID_BITS)
+                || !fits(slot.themeId(), THEME_ID_BITS)) {
+            return FREE;
+        }
+        return epochDay << (TIME_ID_BITS + THEME_ID_BITS) | slot.timeId() << THEME_ID_BITS | slot.themeId();
+    }
+
+    private boolean fits(long value, int bits) {
+        return value > 0 && value < 1L << bits;
+    }
+}
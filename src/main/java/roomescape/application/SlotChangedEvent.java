@@ -0,0 +1,24 @@
+package roomescape.application;
+
+import java.time.LocalDate;
+import roomescape.domain.Reservation;
+
+public record SlotChangedEvent(LocalDate date, long timeId, long themeId, boolean booked) {
+
+    public static SlotChangedEvent booked(Reservation reservation) {
+        return of(reservation, true);
+    }
+
+    public static SlotChangedEvent freed(Reservation reservation) {
+        return of(reservation, false);
+    }
+
+    private static SlotChangedEvent of(Reservation reservation, boolean booked) {
+        return new SlotChangedEvent(
+                reservation.getDate(),
+                reservation.getTime().getId(),
+                reservation.getTheme().getId(),
+                booked
+        );
+    }
+}
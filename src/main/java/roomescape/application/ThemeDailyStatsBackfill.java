@@ -0,0 +1,27 @@
+package roomescape.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import roomescape.domain.ThemeRepository;
+
+@Component
+@ConditionalOnProperty(name = "roomescape.theme-stats.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class ThemeDailyStatsBackfill implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(ThemeDailyStatsBackfill.class);
+
+    private final ThemeRepository themeRepository;
+
+    public ThemeDailyStatsBackfill(ThemeRepository themeRepository) {
+        this.themeRepository = themeRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int filledCount = themeRepository.backfillDailyStats();
+        logger.info("테마 일별 예약 통계 {}건을 채웠습니다.", filledCount);
+    }
+}
@@ -9,23 +9,39 @@ import roomescape.application.dto.request.ThemeRequest;
 import roomescape.application.dto.response.ThemeResponse;
 import roomescape.domain.Theme;
 import roomescape.domain.ThemeRepository;
+import roomescape.exception.RejectionReason;
 import roomescape.exception.RoomescapeException;
 
 @Service
 public class ThemeService {
+    private static final int POPULAR_THEME_LIMIT = 10;
+
     private final ThemeRepository themeRepository;
+    private final CatalogVersion catalogVersion;
     private final Clock clock;
 
-    public ThemeService(ThemeRepository themeRepository, Clock clock) {
+    public ThemeService(ThemeRepository themeRepository, CatalogVersion catalogVersion, Clock clock) {
         this.themeRepository = themeRepository;
+        this.catalogVersion = catalogVersion;
         this.clock = clock;
     }
 
+    @Transactional
     public ThemeResponse create(ThemeRequest request) {
         Theme savedTheme = themeRepository.create(request.toTheme());
         return ThemeResponse.from(savedTheme);
     }
 
+    public String getCatalogTag() {
+        return catalogVersion.getThemesTag();
+    }
+
+    public String getPopularThemesTag() {
+        LocalDate today = LocalDate.now(clock);
+        return catalogVersion.getPopularThemesTag(today.minusDays(7), today.minusDays(1), POPULAR_THEME_LIMIT);
+    }
+
+    @Transactional(readOnly = true)
     public List<ThemeResponse> findAll() {
         return themeRepository.findAll()
                 .stream()
@@ -36,19 +52,20 @@ public class ThemeService {
     @Transactional
     public void deleteById(long id) {
         Theme theme = themeRepository.findById(id)
-                .orElseThrow(() -> new RoomescapeException("존재하지 않는 테마 입니다."));
+                .orElseThrow(() -> new RoomescapeException(RejectionReason.NOT_FOUND, "존재하지 않는 테마 입니다."));
         if (themeRepository.existsByTimeId(theme.getId())) {
-            throw new RoomescapeException("연관된 예약이 존재하여 삭제할 수 없습니다.");
+            throw new RoomescapeException(RejectionReason.REFERENCED, "연관된 예약이 존재하여 삭제할 수 없습니다.");
         }
         themeRepository.deleteById(theme.getId());
     }
 
+    @Transactional(readOnly = true)
     public List<ThemeResponse> findPopularThemes() {
         LocalDate today = LocalDate.now(clock);
         return themeRepository.findPopularThemesDateBetween(
                         today.minusDays(7),
                         today.minusDays(1),
-                        10)
+                        POPULAR_THEME_LIMIT)
                 .stream()
                 .map(ThemeResponse::from)
                 .toList();
@@ -0,0 +1,6 @@
+package roomescape.application.dto.request;
+
+public enum ReservationBatchMode {
+    ALL_OR_NOTHING,
+    BEST_EFFORT
+}
@@ -0,0 +1,20 @@
+package roomescape.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ReservationBatchRequest(
+        ReservationBatchMode mode,
+        @NotEmpty(message = "예약 목록을 입력해주세요.")
+        @Size(max = 100, message = "한 번에 최대 100개의 예약을 추가할 수 있습니다.")
+        List<@Valid ReservationRequest> reservations) {
+
+    public ReservationBatchMode batchMode() {
+        if (mode == null) {
+            return ReservationBatchMode.ALL_OR_NOTHING;
+        }
+        return mode;
+    }
+}
@@ -0,0 +1,30 @@
+package roomescape.application.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.LocalDate;
+import roomescape.domain.ReservationFilter;
+
+public record ReservationSearchRequest(
+        Long themeId,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        String name,
+        Long cursor,
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        Integer size) {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    public ReservationFilter toFilter() {
+        return new ReservationFilter(themeId, dateFrom, dateTo, name);
+    }
+
+    public int pageSize() {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,6 @@
+package roomescape.application.dto.response;
+
+import java.util.List;
+
+public record AvailabilityRangeResponse(List<ReservationTimeResponse> times, List<DailyAvailabilityResponse> days) {
+}
@@ -0,0 +1,21 @@
+package roomescape.application.dto.response;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.BitSet;
+
+public record DailyAvailabilityResponse(LocalDate date, String booked, int availableCount) {
+
+    public static DailyAvailabilityResponse of(LocalDate date, BitSet booked, int timeCount) {
+        return new DailyAvailabilityResponse(date, toHex(booked), timeCount - booked.cardinality());
+    }
+
+    private static String toHex(BitSet booked) {
+        byte[] littleEndian = booked.toByteArray();
+        byte[] bigEndian = new byte[littleEndian.length];
+        for (int i = 0; i < littleEndian.length; i++) {
+            bigEndian[i] = littleEndian[littleEndian.length - 1 - i];
+        }
+        return new BigInteger(1, bigEndian).toString(16);
+    }
+}
@@ -0,0 +1,16 @@
+package roomescape.application.dto.response;
+
+import roomescape.domain.Reservation;
+
+public record ReservationBatchItemResponse(int index, boolean created,
+                                           ReservationResponse reservation,
+                                           String message) {
+
+    public static ReservationBatchItemResponse created(int index, Reservation reservation) {
+        return new ReservationBatchItemResponse(index, true, ReservationResponse.from(reservation), null);
+    }
+
+    public static ReservationBatchItemResponse rejected(int index, String message) {
+        return new ReservationBatchItemResponse(index, false, null, message);
+    }
+}
@@ -0,0 +1,15 @@
+package roomescape.application.dto.response;
+
+import java.util.List;
+import roomescape.application.dto.request.ReservationBatchMode;
+
+public record ReservationBatchResponse(ReservationBatchMode mode, int createdCount,
+                                       List<ReservationBatchItemResponse> results) {
+
+    public static ReservationBatchResponse of(ReservationBatchMode mode, List<ReservationBatchItemResponse> results) {
+        int createdCount = (int) results.stream()
+                .filter(ReservationBatchItemResponse::created)
+                .count();
+        return new ReservationBatchResponse(mode, createdCount, results);
+    }
+}
@@ -0,0 +1,15 @@
+package roomescape.application.dto.response;
+
+import java.util.List;
+import roomescape.domain.ReservationPage;
+
+public record ReservationPageResponse(List<ReservationResponse> reservations, Long nextCursor) {
+
+    public static ReservationPageResponse from(ReservationPage page) {
+        List<ReservationResponse> reservations = page.reservations()
+                .stream()
+                .map(ReservationResponse::from)
+                .toList();
+        return new ReservationPageResponse(reservations, page.nextCursor());
+    }
+}
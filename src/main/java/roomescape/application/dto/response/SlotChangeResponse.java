@@ -0,0 +1,11 @@
+package roomescape.application.dto.response;
+
+import java.time.LocalDate;
+import roomescape.application.SlotChangedEvent;
+
+public record SlotChangeResponse(LocalDate date, long themeId, long timeId, boolean booked) {
+
+    public static SlotChangeResponse from(SlotChangedEvent event) {
+        return new SlotChangeResponse(event.date(), event.themeId(), event.timeId(), event.booked());
+    }
+}
@@ -0,0 +1,14 @@
+package roomescape.domain;
+
+import java.time.LocalDateTime;
+
+public record IdempotentResponse(String key, String requestHash, String body, LocalDateTime createdAt) {
+
+    public boolean isCreatedBefore(LocalDateTime dateTime) {
+        return createdAt.isBefore(dateTime);
+    }
+
+    public boolean hasRequestHash(String otherRequestHash) {
+        return requestHash.equals(otherRequestHash);
+    }
+}
@@ -0,0 +1,15 @@
+package roomescape.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotentResponseRepository {
+
+    Optional<IdempotentResponse> findByKey(String key);
+
+    void save(IdempotentResponse response);
+
+    int deleteCreatedBefore(LocalDateTime createdAt);
+
+    int deleteByKeyCreatedBefore(String key, LocalDateTime createdAt);
+}
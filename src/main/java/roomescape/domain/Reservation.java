@@ -48,6 +48,10 @@ public class Reservation {
         return theme;
     }
 
+    public ReservationSlot getSlot() {
+        return new ReservationSlot(date, time.getId(), theme.getId());
+    }
+
     public Reservation withId(long id) {
         return new Reservation(id, name, date, time, theme);
     }
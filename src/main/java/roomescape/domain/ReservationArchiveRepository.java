@@ -0,0 +1,10 @@
+package roomescape.domain;
+
+import java.time.LocalDate;
+
+public interface ReservationArchiveRepository {
+
+    int archiveDateBefore(LocalDate date, int limit);
+
+    ReservationPage findPage(ReservationFilter filter, Long cursor, int size);
+}
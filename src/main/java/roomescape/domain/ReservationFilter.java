@@ -0,0 +1,10 @@
+package roomescape.domain;
+
+import java.time.LocalDate;
+
+public record ReservationFilter(Long themeId, LocalDate dateFrom, LocalDate dateTo, String name) {
+
+    public static ReservationFilter none() {
+        return new ReservationFilter(null, null, null, null);
+    }
+}
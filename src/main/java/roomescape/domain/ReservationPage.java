@@ -0,0 +1,6 @@
+package roomescape.domain;
+
+import java.util.List;
+
+public record ReservationPage(List<Reservation> reservations, Long nextCursor) {
+}
@@ -1,20 +1,31 @@
 package roomescape.domain;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ReservationRepository {
 
     Optional<Reservation> findById(long id);
 
-    List<Reservation> findAll();
+    ReservationPage findPage(ReservationFilter filter, Long cursor, int size);
+
+    void scanAll(Consumer<Reservation> action);
 
     Reservation create(Reservation reservation);
 
+    List<Reservation> createAll(List<Reservation> reservations);
+
     void deleteById(long id);
 
     boolean existsByTimeId(long timeId);
 
-    boolean existsBy(LocalDate date, long timeId, long themeId);
+    Set<ReservationSlot> findExistingSlots(Collection<ReservationSlot> slots);
+
+    List<Long> findTimeIdsByDateAndThemeId(LocalDate date, long themeId);
+
+    List<ReservationSlot> findSlotsByThemeIdAndDateBetween(long themeId, LocalDate from, LocalDate to);
 }
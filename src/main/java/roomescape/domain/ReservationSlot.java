@@ -0,0 +1,6 @@
+package roomescape.domain;
+
+import java.time.LocalDate;
+
+public record ReservationSlot(LocalDate date, long timeId, long themeId) {
+}
@@ -2,6 +2,7 @@ package roomescape.domain;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,9 +14,13 @@ public interface ReservationTimeRepository {
 
     List<ReservationTime> findAll();
 
+    List<ReservationTime> findAllByIds(Collection<Long> ids);
+
     void deleteById(long id);
 
     boolean existsByStartAt(LocalTime time);
 
+    TableVersion findVersion();
+
     List<TimeSlot> getReservationTimeAvailabilities(LocalDate date, long themeId);
 }
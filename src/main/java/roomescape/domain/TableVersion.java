@@ -0,0 +1,8 @@
+package roomescape.domain;
+
+public record TableVersion(long rowCount, long maxId) {
+
+    public String value() {
+        return rowCount + "." + maxId;
+    }
+}
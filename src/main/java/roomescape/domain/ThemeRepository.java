@@ -1,6 +1,7 @@
 package roomescape.domain;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,9 +13,15 @@ public interface ThemeRepository {
 
     Optional<Theme> findById(long id);
 
+    List<Theme> findAllByIds(Collection<Long> ids);
+
     void deleteById(long id);
 
     List<Theme> findPopularThemesDateBetween(LocalDate startDate, LocalDate endDate, int limit);
 
     boolean existsByTimeId(long id);
+
+    TableVersion findVersion();
+
+    int backfillDailyStats();
 }
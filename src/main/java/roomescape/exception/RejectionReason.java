@@ -0,0 +1,9 @@
+package roomescape.exception;
+
+public enum RejectionReason {
+    INVALID_REQUEST,
+    NOT_FOUND,
+    DUPLICATED,
+    PAST_DATE_TIME,
+    REFERENCED
+}
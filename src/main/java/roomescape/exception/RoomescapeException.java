@@ -1,8 +1,18 @@
 package roomescape.exception;
 
 public class RoomescapeException extends RuntimeException {
+    private final RejectionReason reason;
 
     public RoomescapeException(String message) {
+        this(RejectionReason.INVALID_REQUEST, message);
+    }
+
+    public RoomescapeException(RejectionReason reason, String message) {
         super(message);
+        this.reason = reason;
+    }
+
+    public RejectionReason getReason() {
+        return reason;
     }
 }
@@ -0,0 +1,57 @@
+package roomescape.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import roomescape.domain.IdempotentResponse;
+import roomescape.domain.IdempotentResponseRepository;
+
+@Repository
+public class JdbcIdempotentResponseRepository implements IdempotentResponseRepository {
+    private static final RowMapper<IdempotentResponse> ROW_MAPPER = (rs, rowNum) -> new IdempotentResponse(
+            rs.getString("idempotency_key"),
+            rs.getString("request_hash"),
+            rs.getString("body"),
+            rs.getObject("created_at", LocalDateTime.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcIdempotentResponseRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> findByKey(String key) {
+        String sql = """
+                select idempotency_key, request_hash, body, created_at
+                from idempotent_response where idempotency_key = ?
+                """;
+        return jdbcTemplate.query(sql, ROW_MAPPER, key)
+                .stream()
+                .findAny();
+    }
+
+    @Override
+    public void save(IdempotentResponse response) {
+        jdbcTemplate.update(
+                "insert into idempotent_response (idempotency_key, request_hash, body, created_at) values (?, ?, ?, ?)",
+                response.key(), response.requestHash(), response.body(), response.createdAt()
+        );
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime createdAt) {
+        return jdbcTemplate.update("delete from idempotent_response where created_at < ?", createdAt);
+    }
+
+    @Override
+    public int deleteByKeyCreatedBefore(String key, LocalDateTime createdAt) {
+        return jdbcTemplate.update(
+                "delete from idempotent_response where idempotency_key = ? and created_at < ?",
+                key, createdAt
+        );
+    }
+}
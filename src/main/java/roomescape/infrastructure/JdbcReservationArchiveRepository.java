@@ -0,0 +1,60 @@
+package roomescape.infrastructure;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import roomescape.domain.ReservationArchiveRepository;
+import roomescape.domain.ReservationFilter;
+import roomescape.domain.ReservationPage;
+
+@Repository
+public class JdbcReservationArchiveRepository implements ReservationArchiveRepository {
+    private static final String FIND_ALL_SQL = """
+            select id as reservation_id, name as reservation_name, date, time_id, start_at,
+            theme_id, theme_name, description, thumbnail from reservation_archive
+            """;
+    private static final String ARCHIVE_SQL = """
+            insert into reservation_archive
+            (id, name, date, time_id, start_at, theme_id, theme_name, description, thumbnail)
+            select r.id, r.name, r.date, r.time_id, rt.start_at, r.theme_id, t.name, t.description, t.thumbnail
+            from reservation as r
+            join reservation_time as rt on r.time_id = rt.id
+            join theme as t on r.theme_id = t.id
+            where r.id in (%s)
+            """;
+    private static final ReservationPageQuery PAGE_QUERY = new ReservationPageQuery(FIND_ALL_SQL, "");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcReservationArchiveRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int archiveDateBefore(LocalDate date, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select id from reservation where date < ? order by id limit ? for update", Long.class, date, limit
+        );
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        int archivedCount = jdbcTemplate.update(ARCHIVE_SQL.formatted(placeholders), ids.toArray());
+        int deletedCount = jdbcTemplate.update(
+                "delete from reservation where id in (" + placeholders + ")", ids.toArray()
+        );
+        if (archivedCount != ids.size() || deletedCount != ids.size()) {
+            throw new IllegalStateException(String.format(
+                    "보관한 예약 수와 삭제한 예약 수가 다릅니다. 대상: %d, 보관: %d, 삭제: %d",
+                    ids.size(), archivedCount, deletedCount));
+        }
+        return deletedCount;
+    }
+
+    @Override
+    public ReservationPage findPage(ReservationFilter filter, Long cursor, int size) {
+        return PAGE_QUERY.find(jdbcTemplate, filter, cursor, size);
+    }
+}
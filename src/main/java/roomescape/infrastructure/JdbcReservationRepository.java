@@ -1,15 +1,33 @@
 package roomescape.infrastructure;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 import roomescape.domain.Reservation;
+import roomescape.domain.ReservationFilter;
+import roomescape.domain.ReservationPage;
 import roomescape.domain.ReservationRepository;
+import roomescape.domain.ReservationSlot;
 import roomescape.domain.ReservationTime;
 import roomescape.domain.Theme;
 import roomescape.infrastructure.rowmapper.ReservationRowMapper;
@@ -22,12 +40,17 @@ public class JdbcReservationRepository implements ReservationRepository {
             left join reservation_time as rt on time_id = rt.id
             left join theme as t on theme_id = t.id
             """;
+    private static final ReservationPageQuery PAGE_QUERY = new ReservationPageQuery(FIND_ALL_SQL, "r.");
+    private static final int SCAN_FETCH_SIZE = 1_000;
 
     private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate scanJdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
 
     public JdbcReservationRepository(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
+        this.scanJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.scanJdbcTemplate.setFetchSize(SCAN_FETCH_SIZE);
         this.jdbcInsert = new SimpleJdbcInsert(jdbcTemplate)
                 .withTableName("reservation")
                 .usingColumns("name", "date", "time_id", "theme_id")
@@ -39,7 +62,7 @@ public class JdbcReservationRepository implements ReservationRepository {
         String whereClause = "where r.id = ?";
         try {
             Reservation reservation = jdbcTemplate.queryForObject(
-                    FIND_ALL_SQL + whereClause, (rs, rowNum) -> ReservationRowMapper.joinedMapRow(rs), id
+                    FIND_ALL_SQL + whereClause, new ReservationRowMapper(), id
             );
             return Optional.ofNullable(reservation);
         } catch (EmptyResultDataAccessException e) {
@@ -48,8 +71,15 @@ public class JdbcReservationRepository implements ReservationRepository {
     }
 
     @Override
-    public List<Reservation> findAll() {
-        return jdbcTemplate.query(FIND_ALL_SQL, (rs, rowNum) -> ReservationRowMapper.joinedMapRow(rs));
+    public ReservationPage findPage(ReservationFilter filter, Long cursor, int size) {
+        return PAGE_QUERY.find(jdbcTemplate, filter, cursor, size);
+    }
+
+    @Override
+    public void scanAll(Consumer<Reservation> action) {
+        ReservationRowMapper rowMapper = new ReservationRowMapper();
+        RowCallbackHandler handler = rs -> action.accept(rowMapper.mapRow(rs, rs.getRow()));
+        scanJdbcTemplate.query(FIND_ALL_SQL + "order by r.id", handler);
     }
 
     @Override
@@ -62,13 +92,76 @@ public class JdbcReservationRepository implements ReservationRepository {
                 .addValue("time_id", time.getId())
                 .addValue("theme_id", theme.getId());
         long id = jdbcInsert.executeAndReturnKey(parameters).longValue();
+        adjustDailyStats(reservation.getDate(), theme.getId(), 1);
         return reservation.withId(id);
     }
 
+    @Override
+    public List<Reservation> createAll(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+        String sql = "insert into reservation (name, date, time_id, theme_id) values (?, ?, ?, ?)";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Reservation reservation = reservations.get(i);
+                        ps.setString(1, reservation.getName());
+                        ps.setObject(2, reservation.getDate());
+                        ps.setLong(3, reservation.getTime().getId());
+                        ps.setLong(4, reservation.getTheme().getId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return reservations.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Reservation> savedReservations = new ArrayList<>(reservations.size());
+        for (int i = 0; i < reservations.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            savedReservations.add(reservations.get(i).withId(id.longValue()));
+        }
+        reservations.stream()
+                .collect(Collectors.groupingBy(
+                        reservation -> new DailyStatsKey(reservation.getDate(), reservation.getTheme().getId()),
+                        Collectors.counting()
+                ))
+                .forEach((key, count) -> adjustDailyStats(key.date(), key.themeId(), Math.toIntExact(count)));
+        return savedReservations;
+    }
+
     @Override
     public void deleteById(long id) {
-        String sql = "delete from reservation where id = ?";
-        jdbcTemplate.update(sql, id);
+        String sql = "select date, theme_id from old table (delete from reservation where id = ?)";
+        List<DailyStatsKey> keys = jdbcTemplate.query(sql, (rs, rowNum) -> new DailyStatsKey(
+                rs.getObject("date", LocalDate.class),
+                rs.getLong("theme_id")
+        ), id);
+        keys.forEach(key -> adjustDailyStats(key.date(), key.themeId(), -1));
+    }
+
+    private void adjustDailyStats(LocalDate date, long themeId, int delta) {
+        String updateSql = """
+                update theme_daily_stats set reservation_count = reservation_count + ?
+                where date = ? and theme_id = ?
+                """;
+        if (jdbcTemplate.update(updateSql, delta, date, themeId) > 0 || delta < 0) {
+            return;
+        }
+        try {
+            String insertSql = "insert into theme_daily_stats (date, theme_id, reservation_count) values (?, ?, ?)";
+            jdbcTemplate.update(insertSql, date, themeId, delta);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(updateSql, delta, date, themeId);
+        }
     }
 
     @Override
@@ -79,9 +172,43 @@ public class JdbcReservationRepository implements ReservationRepository {
     }
 
     @Override
-    public boolean existsBy(LocalDate date, long timeId, long themeId) {
-        String sql = "select exists(select 1 from reservation where date = ? and time_id = ? and theme_id = ?)";
-        Boolean result = jdbcTemplate.queryForObject(sql, Boolean.class, date, timeId, themeId);
-        return Boolean.TRUE.equals(result);
+    public Set<ReservationSlot> findExistingSlots(Collection<ReservationSlot> slots) {
+        if (slots.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(slots.size(), "(?, ?, ?)"));
+        String sql = "select date, time_id, theme_id from reservation where (date, time_id, theme_id) in ("
+                + placeholders + ")";
+        List<Object> arguments = new ArrayList<>(slots.size() * 3);
+        for (ReservationSlot slot : slots) {
+            arguments.add(slot.date());
+            arguments.add(slot.timeId());
+            arguments.add(slot.themeId());
+        }
+        List<ReservationSlot> existingSlots = jdbcTemplate.query(sql, (rs, rowNum) -> new ReservationSlot(
+                rs.getObject("date", LocalDate.class),
+                rs.getLong("time_id"),
+                rs.getLong("theme_id")
+        ), arguments.toArray());
+        return new HashSet<>(existingSlots);
+    }
+
+    @Override
+    public List<Long> findTimeIdsByDateAndThemeId(LocalDate date, long themeId) {
+        String sql = "select time_id from reservation where date = ? and theme_id = ?";
+        return jdbcTemplate.queryForList(sql, Long.class, date, themeId);
+    }
+
+    @Override
+    public List<ReservationSlot> findSlotsByThemeIdAndDateBetween(long themeId, LocalDate from, LocalDate to) {
+        String sql = "select date, time_id, theme_id from reservation where theme_id = ? and date between ? and ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ReservationSlot(
+                rs.getObject("date", LocalDate.class),
+                rs.getLong("time_id"),
+                rs.getLong("theme_id")
+        ), themeId, from, to);
+    }
+
+    private record DailyStatsKey(LocalDate date, long themeId) {
     }
 }
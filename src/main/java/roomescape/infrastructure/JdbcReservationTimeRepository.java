@@ -2,6 +2,8 @@ package roomescape.infrastructure;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -11,6 +13,7 @@ import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 import roomescape.domain.ReservationTime;
 import roomescape.domain.ReservationTimeRepository;
+import roomescape.domain.TableVersion;
 import roomescape.domain.TimeSlot;
 import roomescape.infrastructure.rowmapper.ReservationTimeRowMapper;
 
@@ -30,9 +33,7 @@ public class JdbcReservationTimeRepository implements ReservationTimeRepository
     public Optional<ReservationTime> findById(long id) {
         String sql = "select id, start_at from reservation_time where id = ?";
         try {
-            ReservationTime findReservationTime = jdbcTemplate.queryForObject(
-                    sql, (rs, rowNum) -> ReservationTimeRowMapper.mapRow(rs), id
-            );
+            ReservationTime findReservationTime = jdbcTemplate.queryForObject(sql, new ReservationTimeRowMapper(), id);
             return Optional.ofNullable(findReservationTime);
         } catch (EmptyResultDataAccessException e) {
             return Optional.empty();
@@ -51,10 +52,17 @@ public class JdbcReservationTimeRepository implements ReservationTimeRepository
     @Override
     public List<ReservationTime> findAll() {
         String sql = "select id, start_at from reservation_time";
-        return jdbcTemplate.query(sql, (rs, rowNum) -> new ReservationTime(
-                rs.getLong("id"),
-                rs.getTime("start_at").toLocalTime()
-        ));
+        return jdbcTemplate.query(sql, new ReservationTimeRowMapper());
+    }
+
+    @Override
+    public List<ReservationTime> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String sql = "select id, start_at from reservation_time where id in (" + placeholders + ")";
+        return jdbcTemplate.query(sql, new ReservationTimeRowMapper(), ids.toArray());
     }
 
     @Override
@@ -70,6 +78,14 @@ public class JdbcReservationTimeRepository implements ReservationTimeRepository
         return Boolean.TRUE.equals(result);
     }
 
+    @Override
+    public TableVersion findVersion() {
+        return jdbcTemplate.queryForObject(
+                "select count(*), coalesce(max(id), 0) from reservation_time",
+                (rs, rowNum) -> new TableVersion(rs.getLong(1), rs.getLong(2))
+        );
+    }
+
     @Override
     public List<TimeSlot> getReservationTimeAvailabilities(LocalDate date, long themeId) {
         String sql = """
@@ -78,8 +94,9 @@ public class JdbcReservationTimeRepository implements ReservationTimeRepository
                 on rt.id = r.time_id and r.date = ? and r.theme_id = ?
                 group by rt.id, rt.start_at
                 """;
+        ReservationTimeRowMapper rowMapper = new ReservationTimeRowMapper();
         return jdbcTemplate.query(sql, (rs, rowNum) -> new TimeSlot(
-                ReservationTimeRowMapper.mapRow(rs),
+                rowMapper.mapRow(rs, rowNum),
                 rs.getBoolean("is_booked")
         ), date, themeId);
     }
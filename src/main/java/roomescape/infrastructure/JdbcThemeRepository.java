@@ -1,6 +1,8 @@
 package roomescape.infrastructure;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -8,6 +10,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
+import roomescape.domain.TableVersion;
 import roomescape.domain.Theme;
 import roomescape.domain.ThemeRepository;
 import roomescape.infrastructure.rowmapper.ThemeRowMapper;
@@ -39,22 +42,33 @@ public class JdbcThemeRepository implements ThemeRepository {
     @Override
     public List<Theme> findAll() {
         String sql = "select id, name, description, thumbnail from theme";
-        return jdbcTemplate.query(sql, (rs, rowNum) -> ThemeRowMapper.mapRow(rs));
+        return jdbcTemplate.query(sql, new ThemeRowMapper());
     }
 
     @Override
     public Optional<Theme> findById(long id) {
         String sql = "select id, name, description, thumbnail from theme where id = ?";
         try {
-            Theme theme = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> ThemeRowMapper.mapRow(rs), id);
+            Theme theme = jdbcTemplate.queryForObject(sql, new ThemeRowMapper(), id);
             return Optional.ofNullable(theme);
         } catch (EmptyResultDataAccessException e) {
             return Optional.empty();
         }
     }
 
+    @Override
+    public List<Theme> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String sql = "select id, name, description, thumbnail from theme where id in (" + placeholders + ")";
+        return jdbcTemplate.query(sql, new ThemeRowMapper(), ids.toArray());
+    }
+
     @Override
     public void deleteById(long id) {
+        jdbcTemplate.update("delete from theme_daily_stats where theme_id = ?", id);
         String sql = "delete from theme where id = ?";
         jdbcTemplate.update(sql, id);
     }
@@ -62,14 +76,15 @@ public class JdbcThemeRepository implements ThemeRepository {
     @Override
     public List<Theme> findPopularThemesDateBetween(LocalDate startDate, LocalDate endDate, int limit) {
         String sql = """
-                select t.id, t.name, t.description, t.thumbnail, count(r.id) as reservation_count
-                from theme as t left join reservation as r on t.id = r.theme_id
-                where r.date between ? and ?
+                select t.id, t.name, t.description, t.thumbnail, sum(s.reservation_count) as reservation_count
+                from theme_daily_stats as s join theme as t on t.id = s.theme_id
+                where s.date between ? and ?
                 group by t.id
-                order by reservation_count desc
+                having sum(s.reservation_count) > 0
+                order by reservation_count desc, t.id
                 limit ?
                 """;
-        return jdbcTemplate.query(sql, (rs, rowNum) -> ThemeRowMapper.mapRow(rs), startDate, endDate, limit);
+        return jdbcTemplate.query(sql, new ThemeRowMapper(), startDate, endDate, limit);
     }
 
     @Override
@@ -78,4 +93,25 @@ public class JdbcThemeRepository implements ThemeRepository {
         Boolean result = jdbcTemplate.queryForObject(sql, Boolean.class, id);
         return Boolean.TRUE.equals(result);
     }
+
+    @Override
+    public TableVersion findVersion() {
+        return jdbcTemplate.queryForObject(
+                "select count(*), coalesce(max(id), 0) from theme",
+                (rs, rowNum) -> new TableVersion(rs.getLong(1), rs.getLong(2))
+        );
+    }
+
+    @Override
+    public int backfillDailyStats() {
+        String sql = """
+                insert into theme_daily_stats (date, theme_id, reservation_count)
+                select r.date, r.theme_id, count(*) from reservation as r
+                where not exists (
+                    select 1 from theme_daily_stats as s where s.date = r.date and s.theme_id = r.theme_id
+                )
+                group by r.date, r.theme_id
+                """;
+        return jdbcTemplate.update(sql);
+    }
 }
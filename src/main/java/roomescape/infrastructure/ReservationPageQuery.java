@@ -0,0 +1,46 @@
+package roomescape.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationFilter;
+import roomescape.domain.ReservationPage;
+import roomescape.infrastructure.rowmapper.ReservationRowMapper;
+
+class ReservationPageQuery {
+    private final String selectSql;
+    private final String columnPrefix;
+
+    ReservationPageQuery(String selectSql, String columnPrefix) {
+        this.selectSql = selectSql;
+        this.columnPrefix = columnPrefix;
+    }
+
+    ReservationPage find(JdbcTemplate jdbcTemplate, ReservationFilter filter, Long cursor, int size) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> arguments = new ArrayList<>();
+        addCondition(conditions, arguments, "id > ?", cursor);
+        addCondition(conditions, arguments, "theme_id = ?", filter.themeId());
+        addCondition(conditions, arguments, "date >= ?", filter.dateFrom());
+        addCondition(conditions, arguments, "date <= ?", filter.dateTo());
+        addCondition(conditions, arguments, "name = ?", filter.name());
+        arguments.add(size + 1);
+
+        String whereClause = conditions.isEmpty() ? "" : "where " + String.join(" and ", conditions) + " ";
+        String sql = selectSql + whereClause + "order by " + columnPrefix + "id limit ?";
+        List<Reservation> reservations = jdbcTemplate.query(sql, new ReservationRowMapper(), arguments.toArray());
+        if (reservations.size() > size) {
+            List<Reservation> page = reservations.subList(0, size);
+            return new ReservationPage(page, page.get(size - 1).getId());
+        }
+        return new ReservationPage(reservations, null);
+    }
+
+    private void addCondition(List<String> conditions, List<Object> arguments, String condition, Object value) {
+        if (value != null) {
+            conditions.add(columnPrefix + condition);
+            arguments.add(value);
+        }
+    }
+}
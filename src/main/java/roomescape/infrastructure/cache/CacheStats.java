@@ -0,0 +1,4 @@
+package roomescape.infrastructure.cache;
+
+public record CacheStats(long hits, long misses, long evictions, int size) {
+}
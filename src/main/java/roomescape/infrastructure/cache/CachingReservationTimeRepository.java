@@ -0,0 +1,70 @@
+package roomescape.infrastructure.cache;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.ReservationTimeRepository;
+import roomescape.domain.TableVersion;
+import roomescape.domain.TimeSlot;
+import roomescape.infrastructure.JdbcReservationTimeRepository;
+
+@Primary
+@Repository
+public class CachingReservationTimeRepository implements ReservationTimeRepository {
+    private final JdbcReservationTimeRepository delegate;
+    private final CatalogCache<ReservationTime> cache;
+
+    public CachingReservationTimeRepository(JdbcReservationTimeRepository delegate,
+                                            CatalogCache<ReservationTime> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<ReservationTime> findById(long id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public ReservationTime create(ReservationTime reservationTime) {
+        ReservationTime savedTime = delegate.create(reservationTime);
+        cache.invalidateAll();
+        return savedTime;
+    }
+
+    @Override
+    public List<ReservationTime> findAll() {
+        return cache.getAll(delegate::findAll);
+    }
+
+    @Override
+    public List<ReservationTime> findAllByIds(Collection<Long> ids) {
+        return cache.getAllByIds(ids, delegate::findAllByIds, ReservationTime::getId);
+    }
+
+    @Override
+    public void deleteById(long id) {
+        delegate.deleteById(id);
+        cache.invalidateAll();
+    }
+
+    @Override
+    public boolean existsByStartAt(LocalTime startAt) {
+        return delegate.existsByStartAt(startAt);
+    }
+
+    @Override
+    public TableVersion findVersion() {
+        return cache.getVersion(delegate::findVersion);
+    }
+
+    @Override
+    public List<TimeSlot> getReservationTimeAvailabilities(LocalDate date, long themeId) {
+        return delegate.getReservationTimeAvailabilities(date, themeId);
+    }
+}
@@ -0,0 +1,72 @@
+package roomescape.infrastructure.cache;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import roomescape.domain.TableVersion;
+import roomescape.domain.Theme;
+import roomescape.domain.ThemeRepository;
+import roomescape.infrastructure.JdbcThemeRepository;
+
+@Primary
+@Repository
+public class CachingThemeRepository implements ThemeRepository {
+    private final JdbcThemeRepository delegate;
+    private final CatalogCache<Theme> cache;
+
+    public CachingThemeRepository(JdbcThemeRepository delegate, CatalogCache<Theme> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Theme create(Theme theme) {
+        Theme savedTheme = delegate.create(theme);
+        cache.invalidateAll();
+        return savedTheme;
+    }
+
+    @Override
+    public List<Theme> findAll() {
+        return cache.getAll(delegate::findAll);
+    }
+
+    @Override
+    public Optional<Theme> findById(long id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public List<Theme> findAllByIds(Collection<Long> ids) {
+        return cache.getAllByIds(ids, delegate::findAllByIds, Theme::getId);
+    }
+
+    @Override
+    public void deleteById(long id) {
+        delegate.deleteById(id);
+        cache.invalidateAll();
+    }
+
+    @Override
+    public List<Theme> findPopularThemesDateBetween(LocalDate startDate, LocalDate endDate, int limit) {
+        return delegate.findPopularThemesDateBetween(startDate, endDate, limit);
+    }
+
+    @Override
+    public boolean existsByTimeId(long id) {
+        return delegate.existsByTimeId(id);
+    }
+
+    @Override
+    public TableVersion findVersion() {
+        return cache.getVersion(delegate::findVersion);
+    }
+
+    @Override
+    public int backfillDailyStats() {
+        return delegate.backfillDailyStats();
+    }
+}
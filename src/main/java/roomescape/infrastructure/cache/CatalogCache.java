@@ -0,0 +1,172 @@
+package roomescape.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import roomescape.domain.TableVersion;
+
+public class CatalogCache<V> {
+    private final Lock lock = new ReentrantLock();
+    private final Map<Long, V> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private List<V> all;
+    private TableVersion version;
+    private long generation;
+
+    public CatalogCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+                boolean evict = size() > maxSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public Optional<V> get(long id, LongFunction<Optional<V>> loader) {
+        long loadGeneration;
+        lock.lock();
+        try {
+            V cached = entries.get(id);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        Optional<V> loaded = loader.apply(id);
+        loaded.ifPresent(value -> putIfCurrent(loadGeneration, () -> entries.put(id, value)));
+        return loaded;
+    }
+
+    public List<V> getAllByIds(Collection<Long> ids,
+                               Function<Collection<Long>, List<V>> loader,
+                               ToLongFunction<V> idGetter) {
+        List<V> found = new ArrayList<>(ids.size());
+        List<Long> missingIds = new ArrayList<>();
+        long loadGeneration;
+        lock.lock();
+        try {
+            for (Long id : ids) {
+                V cached = entries.get(id);
+                if (cached == null) {
+                    missingIds.add(id);
+                } else {
+                    found.add(cached);
+                }
+            }
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+        hits.add(found.size());
+        if (missingIds.isEmpty()) {
+            return found;
+        }
+        misses.add(missingIds.size());
+        List<V> loaded = loader.apply(missingIds);
+        putIfCurrent(loadGeneration, () -> loaded.forEach(value -> entries.put(idGetter.applyAsLong(value), value)));
+        found.addAll(loaded);
+        return found;
+    }
+
+    public List<V> getAll(Supplier<List<V>> loader) {
+        long loadGeneration;
+        lock.lock();
+        try {
+            if (all != null) {
+                hits.increment();
+                return all;
+            }
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        List<V> loaded = List.copyOf(loader.get());
+        putIfCurrent(loadGeneration, () -> all = loaded);
+        return loaded;
+    }
+
+    public TableVersion getVersion(Supplier<TableVersion> loader) {
+        long loadGeneration;
+        lock.lock();
+        try {
+            if (version != null) {
+                hits.increment();
+                return version;
+            }
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        TableVersion loaded = loader.get();
+        putIfCurrent(loadGeneration, () -> version = loaded);
+        return loaded;
+    }
+
+    private void putIfCurrent(long loadGeneration, Runnable put) {
+        lock.lock();
+        try {
+            if (generation == loadGeneration) {
+                put.run();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            generation++;
+            entries.clear();
+            all = null;
+            version = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        lock.lock();
+        try {
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
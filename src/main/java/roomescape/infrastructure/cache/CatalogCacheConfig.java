@@ -0,0 +1,26 @@
+package roomescape.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.Theme;
+
+@Configuration
+public class CatalogCacheConfig {
+    private final int maxSize;
+
+    public CatalogCacheConfig(@Value("${roomescape.catalog-cache.max-size:256}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Bean
+    public CatalogCache<Theme> themeCache() {
+        return new CatalogCache<>(maxSize);
+    }
+
+    @Bean
+    public CatalogCache<ReservationTime> reservationTimeCache() {
+        return new CatalogCache<>(maxSize);
+    }
+}
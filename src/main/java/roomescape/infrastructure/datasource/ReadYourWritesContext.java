@@ -0,0 +1,40 @@
+package roomescape.infrastructure.datasource;
+
+public final class ReadYourWritesContext {
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void open(boolean recentlyWritten, Runnable onWrite) {
+        CURRENT.set(new Scope(recentlyWritten, onWrite));
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    static boolean isRecentlyWritten() {
+        Scope scope = CURRENT.get();
+        return scope != null && scope.recentlyWritten;
+    }
+
+    static void recordWrite() {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        scope.recentlyWritten = true;
+        scope.onWrite.run();
+    }
+
+    private static final class Scope {
+        private final Runnable onWrite;
+        private boolean recentlyWritten;
+
+        private Scope(boolean recentlyWritten, Runnable onWrite) {
+            this.recentlyWritten = recentlyWritten;
+            this.onWrite = onWrite;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package roomescape.infrastructure.datasource;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCompletion();
+            return DataSourceType.PRIMARY;
+        }
+        if (ReadYourWritesContext.isRecentlyWritten()) {
+            return DataSourceType.PRIMARY;
+        }
+        return DataSourceType.REPLICA;
+    }
+
+    private void recordWriteOnCompletion() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    ReadYourWritesContext.recordWrite();
+                }
+            }
+        });
+    }
+
+    enum DataSourceType {
+        PRIMARY,
+        REPLICA
+    }
+}
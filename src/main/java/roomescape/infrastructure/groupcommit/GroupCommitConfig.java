@@ -0,0 +1,65 @@
+package roomescape.infrastructure.groupcommit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import roomescape.application.SlotChangedEvent;
+import roomescape.infrastructure.JdbcReservationRepository;
+import roomescape.infrastructure.sql.StatementStatistics;
+import roomescape.infrastructure.sql.StatementStatisticsDataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "roomescape.reservation.group-commit.enabled", havingValue = "true")
+public class GroupCommitConfig {
+
+    @Bean
+    public GroupCommitWriterDataSource groupCommitWriterDataSource(
+            DataSourceProperties properties,
+            ObjectProvider<StatementStatistics> statementStatistics) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        pool.setPoolName("group-commit");
+        pool.setMaximumPoolSize(1);
+        StatementStatistics statistics = statementStatistics.getIfAvailable();
+        DataSource dataSource = statistics == null ? pool : new StatementStatisticsDataSource(pool, statistics);
+        return new GroupCommitWriterDataSource(pool, dataSource);
+    }
+
+    @Bean
+    public JdbcReservationRepository groupCommitWriterRepository(GroupCommitWriterDataSource writerDataSource) {
+        return new JdbcReservationRepository(new JdbcTemplate(writerDataSource.getDataSource()));
+    }
+
+    @Bean
+    @Primary
+    public GroupCommitReservationRepository groupCommitReservationRepository(
+            @Qualifier("jdbcReservationRepository") JdbcReservationRepository reservationRepository,
+            @Qualifier("groupCommitWriterRepository") JdbcReservationRepository writerRepository,
+            GroupCommitWriterDataSource writerDataSource,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${roomescape.reservation.group-commit.max-batch-size:64}") int maxBatchSize,
+            @Value("${roomescape.reservation.group-commit.max-delay:PT0.002S}") Duration maxDelay,
+            @Value("${roomescape.reservation.group-commit.queue-capacity:10000}") int queueCapacity) {
+        return new GroupCommitReservationRepository(
+                reservationRepository,
+                writerRepository,
+                new DataSourceTransactionManager(writerDataSource.getDataSource()),
+                reservation -> eventPublisher.publishEvent(SlotChangedEvent.freed(reservation)),
+                maxBatchSize,
+                maxDelay,
+                queueCapacity
+        );
+    }
+}
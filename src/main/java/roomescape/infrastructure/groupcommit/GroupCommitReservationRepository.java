@@ -0,0 +1,246 @@
+package roomescape.infrastructure.groupcommit;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationFilter;
+import roomescape.domain.ReservationPage;
+import roomescape.domain.ReservationRepository;
+import roomescape.domain.ReservationSlot;
+
+public class GroupCommitReservationRepository implements ReservationRepository, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitReservationRepository.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final ReservationRepository delegate;
+    private final ReservationRepository writerRepository;
+    private final TransactionTemplate writerTransactionTemplate;
+    private final Consumer<Reservation> compensationListener;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<PendingInsert> queue;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public GroupCommitReservationRepository(ReservationRepository delegate,
+                                            ReservationRepository writerRepository,
+                                            PlatformTransactionManager writerTransactionManager,
+                                            Consumer<Reservation> compensationListener,
+                                            int maxBatchSize,
+                                            Duration maxDelay,
+                                            int queueCapacity) {
+        this.delegate = delegate;
+        this.writerRepository = writerRepository;
+        this.writerTransactionTemplate = new TransactionTemplate(writerTransactionManager);
+        this.compensationListener = compensationListener;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::drain, "reservation-group-commit");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public Reservation create(Reservation reservation) {
+        PendingInsert pendingInsert = new PendingInsert(reservation, new CompletableFuture<>());
+        if (!running || !queue.offer(pendingInsert)) {
+            return delegate.create(reservation);
+        }
+        Reservation saved;
+        try {
+            saved = pendingInsert.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        compensateOnRollback(saved);
+        return saved;
+    }
+
+    private void compensateOnRollback(Reservation saved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensate(saved);
+                }
+            }
+        });
+    }
+
+    private void compensate(Reservation saved) {
+        try {
+            writerTransactionTemplate.executeWithoutResult(status -> writerRepository.deleteById(saved.getId()));
+        } catch (RuntimeException e) {
+            logger.error("롤백된 호출의 예약을 되돌리지 못했습니다. id={}", saved.getId(), e);
+            return;
+        }
+        compensationListener.accept(saved);
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    flush(collectBatch(first));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        failRemaining();
+    }
+
+    private List<PendingInsert> collectBatch(PendingInsert first) throws InterruptedException {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                break;
+            }
+            PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<PendingInsert> batch) {
+        List<PendingInsert> accepted = new ArrayList<>(batch.size());
+        List<Reservation> saved;
+        try {
+            saved = writerTransactionTemplate.execute(status -> insertBatch(batch, accepted));
+        } catch (DuplicateKeyException e) {
+            accepted.forEach(this::insertAlone);
+            return;
+        } catch (RuntimeException e) {
+            logger.warn("예약 묶음 저장에 실패했습니다. size={}", batch.size(), e);
+            batch.forEach(pendingInsert -> pendingInsert.result().completeExceptionally(e));
+            return;
+        }
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).result().complete(saved.get(i));
+        }
+    }
+
+    private List<Reservation> insertBatch(List<PendingInsert> batch, List<PendingInsert> accepted) {
+        accepted.clear();
+        Set<ReservationSlot> existingSlots = writerRepository.findExistingSlots(
+                batch.stream().map(pendingInsert -> pendingInsert.reservation().getSlot()).toList()
+        );
+        Set<ReservationSlot> batchSlots = new HashSet<>();
+        for (PendingInsert pendingInsert : batch) {
+            ReservationSlot slot = pendingInsert.reservation().getSlot();
+            if (existingSlots.contains(slot) || !batchSlots.add(slot)) {
+                pendingInsert.result().completeExceptionally(new DuplicateKeyException("이미 존재하는 예약입니다."));
+            } else {
+                accepted.add(pendingInsert);
+            }
+        }
+        return writerRepository.createAll(accepted.stream().map(PendingInsert::reservation).toList());
+    }
+
+    private void insertAlone(PendingInsert pendingInsert) {
+        try {
+            Reservation saved = writerTransactionTemplate.execute(
+                    status -> writerRepository.create(pendingInsert.reservation()));
+            pendingInsert.result().complete(saved);
+        } catch (RuntimeException e) {
+            pendingInsert.result().completeExceptionally(e);
+        }
+    }
+
+    private void failRemaining() {
+        List<PendingInsert> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        IllegalStateException exception = new IllegalStateException("예약 저장 대기열이 종료되었습니다.");
+        remaining.forEach(pendingInsert -> pendingInsert.result().completeExceptionally(exception));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        failRemaining();
+    }
+
+    @Override
+    public Optional<Reservation> findById(long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public ReservationPage findPage(ReservationFilter filter, Long cursor, int size) {
+        return delegate.findPage(filter, cursor, size);
+    }
+
+    @Override
+    public void scanAll(Consumer<Reservation> action) {
+        delegate.scanAll(action);
+    }
+
+    @Override
+    public List<Reservation> createAll(List<Reservation> reservations) {
+        return delegate.createAll(reservations);
+    }
+
+    @Override
+    public void deleteById(long id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public boolean existsByTimeId(long timeId) {
+        return delegate.existsByTimeId(timeId);
+    }
+
+    @Override
+    public Set<ReservationSlot> findExistingSlots(Collection<ReservationSlot> slots) {
+        return delegate.findExistingSlots(slots);
+    }
+
+    @Override
+    public List<Long> findTimeIdsByDateAndThemeId(LocalDate date, long themeId) {
+        return delegate.findTimeIdsByDateAndThemeId(date, themeId);
+    }
+
+    @Override
+    public List<ReservationSlot> findSlotsByThemeIdAndDateBetween(long themeId, LocalDate from, LocalDate to) {
+        return delegate.findSlotsByThemeIdAndDateBetween(themeId, from, to);
+    }
+
+    private record PendingInsert(Reservation reservation, CompletableFuture<Reservation> result) {
+    }
+}
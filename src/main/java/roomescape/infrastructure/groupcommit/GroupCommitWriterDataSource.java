@@ -0,0 +1,23 @@
+package roomescape.infrastructure.groupcommit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+
+public class GroupCommitWriterDataSource implements AutoCloseable {
+    private final HikariDataSource pool;
+    private final DataSource dataSource;
+
+    public GroupCommitWriterDataSource(HikariDataSource pool, DataSource dataSource) {
+        this.pool = pool;
+        this.dataSource = dataSource;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+}
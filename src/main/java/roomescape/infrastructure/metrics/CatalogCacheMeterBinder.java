@@ -0,0 +1,36 @@
+package roomescape.infrastructure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import roomescape.infrastructure.cache.CatalogCache;
+
+@Component
+public class CatalogCacheMeterBinder implements MeterBinder {
+    private final Map<String, CatalogCache<?>> caches;
+
+    public CatalogCacheMeterBinder(Map<String, CatalogCache<?>> caches) {
+        this.caches = caches;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        caches.forEach((name, cache) -> {
+            FunctionCounter.builder("roomescape.cache.hits", cache, it -> it.stats().hits())
+                    .tag("cache", name)
+                    .register(registry);
+            FunctionCounter.builder("roomescape.cache.misses", cache, it -> it.stats().misses())
+                    .tag("cache", name)
+                    .register(registry);
+            FunctionCounter.builder("roomescape.cache.evictions", cache, it -> it.stats().evictions())
+                    .tag("cache", name)
+                    .register(registry);
+            Gauge.builder("roomescape.cache.size", cache, it -> it.stats().size())
+                    .tag("cache", name)
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package roomescape.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import roomescape.exception.RoomescapeException;
+
+@Aspect
+@Component
+public class RejectionMetricsAspect {
+    private static final String METRIC_NAME = "roomescape.rejections";
+
+    private final MeterRegistry meterRegistry;
+
+    public RejectionMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @AfterThrowing(
+            pointcut = "within(roomescape.application..*Service) && !within(roomescape.application.IdempotencyService)",
+            throwing = "exception"
+    )
+    public void countRejection(RoomescapeException exception) {
+        Counter.builder(METRIC_NAME)
+                .tag("reason", exception.getReason().name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,46 @@
+package roomescape.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+    private static final String METRIC_NAME = "roomescape.repository";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* roomescape.domain.ReservationRepository+.*(..))"
+            + " || execution(* roomescape.domain.ThemeRepository+.*(..))"
+            + " || execution(* roomescape.domain.ReservationTimeRepository+.*(..))"
+            + " || execution(* roomescape.domain.ReservationArchiveRepository+.*(..))"
+            + " || execution(* roomescape.domain.IdempotentResponseRepository+.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer timer = timers.computeIfAbsent(repository + "." + method, ignored -> Timer.builder(METRIC_NAME)
+                .tag("repository", repository)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        long startedAt = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
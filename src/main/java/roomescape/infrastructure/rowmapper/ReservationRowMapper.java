@@ -3,37 +3,34 @@ package roomescape.infrastructure.rowmapper;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import org.springframework.jdbc.core.RowMapper;
 import roomescape.domain.PlayerName;
 import roomescape.domain.Reservation;
 
-public class ReservationRowMapper {
+public class ReservationRowMapper implements RowMapper<Reservation> {
+    private final ReservationTimeRowMapper timeRowMapper = ReservationTimeRowMapper.joined();
+    private final ThemeRowMapper themeRowMapper = ThemeRowMapper.joined();
+    private int idIndex;
+    private int nameIndex;
+    private int dateIndex;
 
-    private ReservationRowMapper() {
-    }
-
-    public static Reservation mapRow(ResultSet rs) throws SQLException {
-        long id = rs.getLong("id");
-        String name = rs.getString("name");
-        String date = rs.getString("date");
+    @Override
+    public Reservation mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (idIndex == 0) {
+            resolveColumns(rs);
+        }
         return new Reservation(
-                id,
-                new PlayerName(name),
-                LocalDate.parse(date),
-                ReservationTimeRowMapper.mapRow(rs),
-                ThemeRowMapper.mapRow(rs)
+                rs.getLong(idIndex),
+                new PlayerName(rs.getString(nameIndex)),
+                rs.getObject(dateIndex, LocalDate.class),
+                timeRowMapper.mapRow(rs, rowNum),
+                themeRowMapper.mapRow(rs, rowNum)
         );
     }
 
-    public static Reservation joinedMapRow(ResultSet rs) throws SQLException {
-        long id = rs.getLong("reservation_id");
-        String name = rs.getString("reservation_name");
-        String date = rs.getString("date");
-        return new Reservation(
-                id,
-                new PlayerName(name),
-                LocalDate.parse(date),
-                ReservationTimeRowMapper.joinedMapRow(rs),
-                ThemeRowMapper.joinedMapRow(rs)
-        );
+    private void resolveColumns(ResultSet rs) throws SQLException {
+        nameIndex = rs.findColumn("reservation_name");
+        dateIndex = rs.findColumn("date");
+        idIndex = rs.findColumn("reservation_id");
     }
 }
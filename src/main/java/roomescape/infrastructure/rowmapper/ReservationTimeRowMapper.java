@@ -3,22 +3,45 @@ package roomescape.infrastructure.rowmapper;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.jdbc.core.RowMapper;
 import roomescape.domain.ReservationTime;
 
-public class ReservationTimeRowMapper {
+public class ReservationTimeRowMapper implements RowMapper<ReservationTime> {
+    private final String idColumn;
+    private final Map<Long, ReservationTime> times = new HashMap<>();
+    private int idIndex;
+    private int startAtIndex;
 
-    private ReservationTimeRowMapper() {
+    public ReservationTimeRowMapper() {
+        this("id");
     }
 
-    public static ReservationTime mapRow(ResultSet rs) throws SQLException {
-        long id = rs.getLong("id");
-        String startAt = rs.getString("start_at");
-        return new ReservationTime(id, LocalTime.parse(startAt));
+    private ReservationTimeRowMapper(String idColumn) {
+        this.idColumn = idColumn;
     }
 
-    public static ReservationTime joinedMapRow(ResultSet rs) throws SQLException {
-        long id = rs.getLong("time_id");
-        String startAt = rs.getString("start_at");
-        return new ReservationTime(id, LocalTime.parse(startAt));
+    public static ReservationTimeRowMapper joined() {
+        return new ReservationTimeRowMapper("time_id");
+    }
+
+    @Override
+    public ReservationTime mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (idIndex == 0) {
+            resolveColumns(rs);
+        }
+        long id = rs.getLong(idIndex);
+        ReservationTime time = times.get(id);
+        if (time == null) {
+            time = new ReservationTime(id, rs.getObject(startAtIndex, LocalTime.class));
+            times.put(id, time);
+        }
+        return time;
+    }
+
+    private void resolveColumns(ResultSet rs) throws SQLException {
+        startAtIndex = rs.findColumn("start_at");
+        idIndex = rs.findColumn(idColumn);
     }
 }
@@ -2,29 +2,57 @@ package roomescape.infrastructure.rowmapper;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.jdbc.core.RowMapper;
 import roomescape.domain.Theme;
 import roomescape.domain.ThemeName;
 
-public class ThemeRowMapper {
+public class ThemeRowMapper implements RowMapper<Theme> {
+    private final String idColumn;
+    private final String nameColumn;
+    private final Map<Long, Theme> themes = new HashMap<>();
+    private int idIndex;
+    private int nameIndex;
+    private int descriptionIndex;
+    private int thumbnailIndex;
 
-    private ThemeRowMapper() {
+    public ThemeRowMapper() {
+        this("id", "name");
     }
 
-    public static Theme mapRow(ResultSet rs) throws SQLException {
-        return new Theme(
-                rs.getLong("id"),
-                new ThemeName(rs.getString("name")),
-                rs.getString("description"),
-                rs.getString("thumbnail")
-        );
+    private ThemeRowMapper(String idColumn, String nameColumn) {
+        this.idColumn = idColumn;
+        this.nameColumn = nameColumn;
     }
 
-    public static Theme joinedMapRow(ResultSet rs) throws SQLException {
-        return new Theme(
-                rs.getLong("theme_id"),
-                new ThemeName(rs.getString("theme_name")),
-                rs.getString("description"),
-                rs.getString("thumbnail")
-        );
+    public static ThemeRowMapper joined() {
+        return new ThemeRowMapper("theme_id", "theme_name");
+    }
+
+    @Override
+    public Theme mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (idIndex == 0) {
+            resolveColumns(rs);
+        }
+        long id = rs.getLong(idIndex);
+        Theme theme = themes.get(id);
+        if (theme == null) {
+            theme = new Theme(
+                    id,
+                    new ThemeName(rs.getString(nameIndex)),
+                    rs.getString(descriptionIndex),
+                    rs.getString(thumbnailIndex)
+            );
+            themes.put(id, theme);
+        }
+        return theme;
+    }
+
+    private void resolveColumns(ResultSet rs) throws SQLException {
+        nameIndex = rs.findColumn(nameColumn);
+        descriptionIndex = rs.findColumn("description");
+        thumbnailIndex = rs.findColumn("thumbnail");
+        idIndex = rs.findColumn(idColumn);
     }
 }
@@ -0,0 +1,4 @@
+package roomescape.infrastructure.snapshot;
+
+public record DatabaseSnapshot(String name, long sizeBytes) {
+}
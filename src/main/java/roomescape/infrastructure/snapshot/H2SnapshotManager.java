@@ -0,0 +1,120 @@
+package roomescape.infrastructure.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "roomescape.persistence.enabled", havingValue = "true")
+public class H2SnapshotManager {
+    private static final Logger logger = LoggerFactory.getLogger(H2SnapshotManager.class);
+    private static final String SNAPSHOT_PREFIX = "roomescape-";
+    private static final String SNAPSHOT_SUFFIX = ".zip";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Lock lock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final Path snapshotDirectory;
+    private final int retention;
+
+    public H2SnapshotManager(JdbcTemplate jdbcTemplate,
+                             Clock clock,
+                             @Value("${roomescape.persistence.snapshot-directory}") Path snapshotDirectory,
+                             @Value("${roomescape.persistence.snapshot-retention:5}") int retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.snapshotDirectory = snapshotDirectory;
+        this.retention = retention;
+    }
+
+    public DatabaseSnapshot create() {
+        lock.lock();
+        try {
+            Files.createDirectories(snapshotDirectory);
+            Path target = nextSnapshotPath();
+            Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+            long startedAt = System.nanoTime();
+            jdbcTemplate.execute("backup to '" + temporary.toAbsolutePath().toString().replace("'", "''") + "'");
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("데이터베이스 스냅숏 {}을 {}ms 만에 만들었습니다.",
+                    target.getFileName(), (System.nanoTime() - startedAt) / 1_000_000);
+            deleteExpiredSnapshots();
+            return toSnapshot(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<DatabaseSnapshot> findAll() {
+        return listSnapshots(snapshotDirectory).stream()
+                .map(this::toSnapshot)
+                .toList();
+    }
+
+    static List<Path> listSnapshots(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(H2SnapshotManager::isSnapshot)
+                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isSnapshot(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+    }
+
+    private Path nextSnapshotPath() {
+        LocalDateTime createdAt = LocalDateTime.now(clock);
+        Path target = snapshotPath(createdAt);
+        while (Files.exists(target)) {
+            createdAt = createdAt.plus(1, ChronoUnit.MILLIS);
+            target = snapshotPath(createdAt);
+        }
+        return target;
+    }
+
+    private Path snapshotPath(LocalDateTime createdAt) {
+        return snapshotDirectory.resolve(SNAPSHOT_PREFIX + TIMESTAMP_FORMAT.format(createdAt) + SNAPSHOT_SUFFIX);
+    }
+
+    private void deleteExpiredSnapshots() throws IOException {
+        List<Path> snapshots = listSnapshots(snapshotDirectory);
+        for (Path expired : snapshots.subList(Math.min(retention, snapshots.size()), snapshots.size())) {
+            Files.deleteIfExists(expired);
+        }
+    }
+
+    private DatabaseSnapshot toSnapshot(Path file) {
+        try {
+            return new DatabaseSnapshot(file.getFileName().toString(), Files.size(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package roomescape.infrastructure.snapshot;
+
+import java.nio.file.Path;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@ConditionalOnProperty(name = "roomescape.persistence.enabled", havingValue = "true")
+public class SnapshotConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "roomescape.persistence.restore-from")
+    public static SnapshotRestorePostProcessor snapshotRestorePostProcessor(Environment environment) {
+        return new SnapshotRestorePostProcessor(
+                environment.getProperty("spring.datasource.url"),
+                Path.of(environment.getRequiredProperty("roomescape.persistence.snapshot-directory")),
+                environment.getRequiredProperty("roomescape.persistence.restore-from")
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package roomescape.infrastructure.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+public class SnapshotRestorePostProcessor implements BeanFactoryPostProcessor {
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotRestorePostProcessor.class);
+    private static final String FILE_URL_PREFIX = "jdbc:h2:file:";
+    private static final String LATEST = "latest";
+    private static final String REPLACED_SUFFIX = ".before-restore";
+
+    private final String databaseUrl;
+    private final Path snapshotDirectory;
+    private final String restoreFrom;
+
+    public SnapshotRestorePostProcessor(String databaseUrl, Path snapshotDirectory, String restoreFrom) {
+        this.databaseUrl = databaseUrl;
+        this.snapshotDirectory = snapshotDirectory;
+        this.restoreFrom = restoreFrom;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        Path snapshot = resolveSnapshot();
+        Path databaseDirectory = databasePath().toAbsolutePath().getParent();
+        long startedAt = System.nanoTime();
+        try {
+            Files.createDirectories(databaseDirectory);
+            extract(snapshot, databaseDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        logger.info("스냅숏 {}을 {}에 {}ms 만에 복원했습니다.",
+                snapshot.getFileName(), databaseDirectory, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private Path resolveSnapshot() {
+        if (!LATEST.equals(restoreFrom)) {
+            return Path.of(restoreFrom);
+        }
+        return H2SnapshotManager.listSnapshots(snapshotDirectory)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("복원할 스냅숏이 없습니다: " + snapshotDirectory));
+    }
+
+    private Path databasePath() {
+        if (databaseUrl == null || !databaseUrl.startsWith(FILE_URL_PREFIX)) {
+            throw new IllegalStateException("파일 모드 H2 주소에서만 스냅숏을 복원할 수 있습니다: " + databaseUrl);
+        }
+        String path = databaseUrl.substring(FILE_URL_PREFIX.length()).split(";", 2)[0];
+        if (path.startsWith("~")) {
+            path = System.getProperty("user.home") + path.substring(1);
+        }
+        return Path.of(path);
+    }
+
+    private void extract(Path snapshot, Path databaseDirectory) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                Path target = databaseDirectory.resolve(Path.of(entry.getName()).getFileName());
+                Path temporary = target.resolveSibling(target.getFileName() + ".restoring");
+                Files.copy(zip, temporary, StandardCopyOption.REPLACE_EXISTING);
+                if (Files.exists(target)) {
+                    Files.move(target, target.resolveSibling(target.getFileName() + REPLACED_SUFFIX),
+                            StandardCopyOption.REPLACE_EXISTING);
+                }
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package roomescape.infrastructure.sql;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+
+record BindParameter(Method setter, Object[] arguments) {
+
+    String typeName() {
+        Object value = arguments[1];
+        if (value == null || setter.getName().equals("setNull")) {
+            return "null";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    void applyTo(PreparedStatement statement) throws ReflectiveOperationException {
+        setter.invoke(statement, arguments);
+    }
+}
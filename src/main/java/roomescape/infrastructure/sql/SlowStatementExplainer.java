@@ -0,0 +1,89 @@
+package roomescape.infrastructure.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class SlowStatementExplainer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(SlowStatementExplainer.class);
+    private static final int QUEUE_CAPACITY = 16;
+    private static final Set<String> EXPLAINABLE_COMMANDS = Set.of("select", "insert", "update", "delete", "merge");
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "slow-statement-explainer");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy()
+    );
+
+    boolean canExplain(StatementExecution execution) {
+        return !execution.batch() && EXPLAINABLE_COMMANDS.contains(commandOf(execution.sql()));
+    }
+
+    void explain(StatementExecution execution, String shape) {
+        executor.execute(() -> logPlan(execution, shape));
+    }
+
+    private void logPlan(StatementExecution execution, String shape) {
+        try {
+            logger.warn("느린 SQL의 실행 계획입니다. sql={}\n{}", shape, planOf(execution));
+        } catch (SQLException | ReflectiveOperationException e) {
+            logger.warn("느린 SQL의 실행 계획을 가져오지 못했습니다. sql={}, reason={}",
+                    shape, e.getMessage());
+        }
+    }
+
+    String planOf(StatementExecution execution) throws SQLException, ReflectiveOperationException {
+        String explain = commandOf(execution.sql()).equals("select") ? "explain analyze " : "explain ";
+        try (Connection connection = execution.dataSource().getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(explain + execution.sql())) {
+                for (BindParameter bind : execution.binds()) {
+                    bind.applyTo(statement);
+                }
+                return readPlan(statement);
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private String readPlan(PreparedStatement statement) throws SQLException {
+        StringJoiner plan = new StringJoiner("\n");
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                plan.add(resultSet.getString(1));
+            }
+        }
+        return plan.toString();
+    }
+
+    private String commandOf(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,16 @@
+package roomescape.infrastructure.sql;
+
+import java.util.List;
+import javax.sql.DataSource;
+
+record StatementExecution(DataSource dataSource,
+                          String sql,
+                          List<BindParameter> binds,
+                          boolean batch,
+                          long elapsedNanos,
+                          long rows) {
+
+    List<String> bindTypes() {
+        return binds.stream().map(BindParameter::typeName).toList();
+    }
+}
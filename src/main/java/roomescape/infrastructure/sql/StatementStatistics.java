@@ -0,0 +1,167 @@
+package roomescape.infrastructure.sql;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "roomescape.statement-stats.enabled", havingValue = "true")
+public class StatementStatistics implements DisposableBean {
+    static final String OTHER_STATEMENTS = "(other statements)";
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementStatistics.class);
+    private static final int SHAPE_CACHE_FACTOR = 4;
+    private static final String TUPLE = "\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern IN_TUPLES = Pattern.compile(
+            "(?i)\\bin\\s*\\(\\s*(" + TUPLE + ")(?:\\s*,\\s*" + TUPLE + ")*\\s*\\)");
+    private static final Pattern REPEATED_TUPLES = Pattern.compile("(" + TUPLE + ")(?:\\s*,\\s*" + TUPLE + ")+");
+
+    private final Map<String, StatementCounter> counters = new ConcurrentHashMap<>();
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private final SlowStatementExplainer explainer = new SlowStatementExplainer();
+    private final long slowThresholdNanos;
+    private final int maxStatements;
+    private final boolean explain;
+    private final long explainIntervalNanos;
+
+    public StatementStatistics(
+            @Value("${roomescape.statement-stats.slow-threshold:PT0.1S}") Duration slowThreshold,
+            @Value("${roomescape.statement-stats.max-statements:1000}") int maxStatements,
+            @Value("${roomescape.statement-stats.explain:true}") boolean explain,
+            @Value("${roomescape.statement-stats.explain-interval:PT1M}") Duration explainInterval) {
+        if (maxStatements < 1) {
+            throw new IllegalArgumentException("집계할 SQL 종류 수는 1 이상이어야 합니다.");
+        }
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxStatements = maxStatements;
+        this.explain = explain;
+        this.explainIntervalNanos = explainInterval.toNanos();
+    }
+
+    void record(StatementExecution execution) {
+        String shape = shapeOf(execution.sql());
+        StatementCounter counter = counterOf(shape);
+        boolean slow = execution.elapsedNanos() >= slowThresholdNanos;
+        counter.add(execution.elapsedNanos(), execution.rows(), slow);
+        if (!slow) {
+            return;
+        }
+        logger.warn("느린 SQL을 실행했습니다. elapsed={}ms, rows={}, binds={}, sql={}",
+                TimeUnit.NANOSECONDS.toMillis(execution.elapsedNanos()), execution.rows(),
+                execution.bindTypes(), shape);
+        if (explain && explainer.canExplain(execution)
+                && counter.tryStartExplain(System.nanoTime(), explainIntervalNanos)) {
+            explainer.explain(execution, shape);
+        }
+    }
+
+    public List<StatementStats> findAll() {
+        return counters.entrySet().stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .sorted(Comparator.comparingDouble(StatementStats::totalMillis).reversed())
+                .toList();
+    }
+
+    public void clear() {
+        counters.clear();
+    }
+
+    private String shapeOf(String sql) {
+        String shape = shapes.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        shape = normalize(sql);
+        if (shapes.size() < maxStatements * SHAPE_CACHE_FACTOR) {
+            shapes.put(sql, shape);
+        }
+        return shape;
+    }
+
+    static String normalize(String sql) {
+        String shape = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?, ...)");
+        shape = IN_TUPLES.matcher(shape).replaceAll("in ($1, ...)");
+        return REPEATED_TUPLES.matcher(shape).replaceAll("$1, ...");
+    }
+
+    private StatementCounter counterOf(String shape) {
+        StatementCounter counter = counters.get(shape);
+        if (counter != null) {
+            return counter;
+        }
+        String key = counters.size() < maxStatements ? shape : OTHER_STATEMENTS;
+        return counters.computeIfAbsent(key, ignored -> new StatementCounter());
+    }
+
+    @Override
+    public void destroy() {
+        explainer.close();
+    }
+
+    private static class StatementCounter {
+        private static final long NEVER = Long.MIN_VALUE;
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLong lastExplainedAt = new AtomicLong(NEVER);
+
+        void add(long elapsedNanos, long rowCount, boolean slow) {
+            calls.increment();
+            rows.add(rowCount);
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            if (slow) {
+                slowCalls.increment();
+            }
+        }
+
+        boolean tryStartExplain(long now, long intervalNanos) {
+            long last = lastExplainedAt.get();
+            if (last != NEVER && now - last < intervalNanos) {
+                return false;
+            }
+            return lastExplainedAt.compareAndSet(last, now);
+        }
+
+        StatementStats toStats(String shape) {
+            long callCount = calls.sum();
+            long total = totalNanos.sum();
+            return new StatementStats(
+                    shape,
+                    callCount,
+                    rows.sum(),
+                    slowCalls.sum(),
+                    toMillis(total),
+                    callCount == 0 ? 0 : toMillis(total / callCount),
+                    toMillis(maxNanos.get())
+            );
+        }
+
+        private double toMillis(long nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+}
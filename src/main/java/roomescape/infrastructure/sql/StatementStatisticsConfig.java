@@ -0,0 +1,17 @@
+package roomescape.infrastructure.sql;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "roomescape.statement-stats.enabled", havingValue = "true")
+public class StatementStatisticsConfig {
+
+    @Bean
+    public static StatementStatisticsPostProcessor statementStatisticsPostProcessor(
+            ObjectProvider<StatementStatistics> statistics) {
+        return new StatementStatisticsPostProcessor(statistics);
+    }
+}
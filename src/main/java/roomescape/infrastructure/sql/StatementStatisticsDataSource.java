@@ -0,0 +1,283 @@
+package roomescape.infrastructure.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Wrapper;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class StatementStatisticsDataSource extends DelegatingDataSource implements AutoCloseable {
+    private final StatementStatistics statistics;
+
+    public StatementStatisticsDataSource(DataSource targetDataSource, StatementStatistics statistics) {
+        super(targetDataSource);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static Object proxy(Class<?> type, InvocationHandler handler) {
+        return Proxy.newProxyInstance(
+                StatementStatisticsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler
+        );
+    }
+
+    private abstract static class WrapperHandler implements InvocationHandler {
+        private final Object target;
+
+        WrapperHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> invokeTarget(method, args);
+                };
+            }
+            if (method.getDeclaringClass() == Wrapper.class && ((Class<?>) args[0]).isInstance(proxy)) {
+                return method.getName().equals("unwrap") ? proxy : true;
+            }
+            return handle(proxy, method, args);
+        }
+
+        abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private class ConnectionHandler extends WrapperHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, (Connection) proxy, sql));
+            }
+            return result;
+        }
+    }
+
+    private class StatementHandler extends WrapperHandler {
+        private final Statement target;
+        private final Connection connection;
+        private final String preparedSql;
+        private final Map<Integer, BindParameter> binds = new TreeMap<>();
+        private String batchSql;
+        private Execution pending;
+
+        StatementHandler(Statement target, Connection connection, String preparedSql) {
+            super(target);
+            this.target = target;
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (isBindSetter(method, args)) {
+                binds.put((Integer) args[0], new BindParameter(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                binds.clear();
+            } else if (name.equals("addBatch") && args != null) {
+                batchSql = (String) args[0];
+            } else if (name.equals("getConnection")) {
+                return connection;
+            } else if (name.startsWith("execute")) {
+                return execute(proxy, method, args);
+            } else if (name.equals("getResultSet")) {
+                return wrapResultSet(proxy, (ResultSet) invokeTarget(method, args));
+            } else if (name.equals("close")) {
+                finishPending();
+            }
+            return invokeTarget(method, args);
+        }
+
+        private boolean isBindSetter(Method method, Object[] args) {
+            return preparedSql != null
+                    && method.getName().startsWith("set")
+                    && args != null && args.length >= 2
+                    && args[0] instanceof Integer;
+        }
+
+        private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+            finishPending();
+            boolean batch = method.getName().endsWith("Batch");
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            if (batch && sql == null) {
+                sql = batchSql;
+            }
+            if (sql == null) {
+                return invokeTarget(method, args);
+            }
+            Execution execution = new Execution(sql, batch ? List.of() : List.copyOf(binds.values()), batch);
+            long startedAt = System.nanoTime();
+            Object result;
+            try {
+                result = invokeTarget(method, args);
+            } catch (Throwable e) {
+                execution.addElapsed(startedAt);
+                execution.finish();
+                throw e;
+            }
+            execution.addElapsed(startedAt);
+            if (result instanceof ResultSet resultSet) {
+                pending = execution;
+                return wrapResultSet(proxy, resultSet);
+            }
+            if (Boolean.TRUE.equals(result)) {
+                pending = execution;
+                return result;
+            }
+            execution.rows = updatedRows(result);
+            execution.finish();
+            return result;
+        }
+
+        private long updatedRows(Object result) throws SQLException {
+            if (result instanceof Number count) {
+                return Math.max(count.longValue(), 0);
+            }
+            if (result instanceof int[] counts) {
+                long rows = 0;
+                for (int count : counts) {
+                    rows += Math.max(count, 0);
+                }
+                return rows;
+            }
+            if (result instanceof long[] counts) {
+                long rows = 0;
+                for (long count : counts) {
+                    rows += Math.max(count, 0);
+                }
+                return rows;
+            }
+            return Math.max(target.getUpdateCount(), 0);
+        }
+
+        private ResultSet wrapResultSet(Object statement, ResultSet resultSet) {
+            if (resultSet == null || pending == null) {
+                return resultSet;
+            }
+            return (ResultSet) proxy(ResultSet.class, new ResultSetHandler(resultSet, statement, pending));
+        }
+
+        private void finishPending() {
+            if (pending != null) {
+                pending.finish();
+                pending = null;
+            }
+        }
+    }
+
+    private static class ResultSetHandler extends WrapperHandler {
+        private final Object statement;
+        private final Execution execution;
+
+        ResultSetHandler(ResultSet target, Object statement, Execution execution) {
+            super(target);
+            this.statement = statement;
+            this.execution = execution;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next" -> {
+                    long startedAt = System.nanoTime();
+                    Object hasNext = invokeTarget(method, args);
+                    execution.addElapsed(startedAt);
+                    if (Boolean.TRUE.equals(hasNext)) {
+                        execution.rows++;
+                    }
+                    return hasNext;
+                }
+                case "getStatement" -> {
+                    return statement;
+                }
+                case "close" -> {
+                    try {
+                        return invokeTarget(method, args);
+                    } finally {
+                        execution.finish();
+                    }
+                }
+                default -> {
+                    return invokeTarget(method, args);
+                }
+            }
+        }
+    }
+
+    private class Execution {
+        private final String sql;
+        private final List<BindParameter> binds;
+        private final boolean batch;
+        private long elapsedNanos;
+        private long rows;
+        private boolean finished;
+
+        Execution(String sql, List<BindParameter> binds, boolean batch) {
+            this.sql = sql;
+            this.binds = binds;
+            this.batch = batch;
+        }
+
+        void addElapsed(long startedAt) {
+            elapsedNanos += System.nanoTime() - startedAt;
+        }
+
+        void finish() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            statistics.record(new StatementExecution(
+                    obtainTargetDataSource(), sql, binds, batch, elapsedNanos, rows
+            ));
+        }
+    }
+}
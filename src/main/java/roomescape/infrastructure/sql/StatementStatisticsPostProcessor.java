@@ -0,0 +1,39 @@
+package roomescape.infrastructure.sql;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+public class StatementStatisticsPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+    private final ObjectProvider<StatementStatistics> statistics;
+    private ConfigurableListableBeanFactory beanFactory;
+
+    public StatementStatisticsPostProcessor(ObjectProvider<StatementStatistics> statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof StatementStatisticsDataSource)
+                && isInjectedByType(beanName)) {
+            return new StatementStatisticsDataSource(dataSource, statistics.getObject());
+        }
+        return bean;
+    }
+
+    private boolean isInjectedByType(String beanName) {
+        if (!beanFactory.containsBeanDefinition(beanName)) {
+            return false;
+        }
+        String[] candidates = beanFactory.getBeanNamesForType(DataSource.class, false, false);
+        return candidates.length == 1 || beanFactory.getMergedBeanDefinition(beanName).isPrimary();
+    }
+}
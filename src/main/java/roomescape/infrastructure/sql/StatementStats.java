@@ -0,0 +1,10 @@
+package roomescape.infrastructure.sql;
+
+public record StatementStats(String sql,
+                             long calls,
+                             long rows,
+                             long slowCalls,
+                             double totalMillis,
+                             double meanMillis,
+                             double maxMillis) {
+}
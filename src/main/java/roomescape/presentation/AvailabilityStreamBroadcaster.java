@@ -0,0 +1,206 @@
+package roomescape.presentation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import roomescape.application.SlotChangedEvent;
+import roomescape.application.dto.response.SlotChangeResponse;
+
+@Component
+public class AvailabilityStreamBroadcaster {
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityStreamBroadcaster.class);
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final int maxPendingMessages;
+    private final Map<StreamKey, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public AvailabilityStreamBroadcaster(
+            ObjectMapper objectMapper,
+            @Qualifier("applicationTaskExecutor") Executor executor,
+            @Value("${roomescape.availability.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${roomescape.availability.stream.timeout:PT30M}") Duration timeout,
+            @Value("${roomescape.availability.stream.max-pending-messages:32}") int maxPendingMessages) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxPendingMessages = maxPendingMessages;
+    }
+
+    public SseEmitter subscribe(LocalDate date, long themeId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ErrorResponseException(HttpStatus.SERVICE_UNAVAILABLE, ProblemDetail.forStatusAndDetail(
+                    HttpStatus.SERVICE_UNAVAILABLE, "예약 가능 시간 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요."
+            ), null);
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(new StreamKey(date, themeId), emitter);
+        subscribers.compute(subscriber.key, (ignored, group) -> {
+            Set<Subscriber> updated = group == null ? ConcurrentHashMap.newKeySet() : group;
+            updated.add(subscriber);
+            return updated;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> emitter.complete());
+        return emitter;
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.key, (ignored, group) -> {
+            if (group.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return group.isEmpty() ? null : group;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotChanged(SlotChangedEvent event) {
+        Set<Subscriber> group = subscribers.get(new StreamKey(event.date(), event.themeId()));
+        if (group == null) {
+            return;
+        }
+        Set<DataWithMediaType> message = SseEmitter.event()
+                .name("slot")
+                .data(toJson(SlotChangeResponse.from(event)))
+                .build();
+        group.forEach(subscriber -> subscriber.enqueue(message));
+    }
+
+    @Scheduled(fixedDelayString = "${roomescape.availability.stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(group -> group.forEach(Subscriber::enqueueHeartbeatIfIdle));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private String toJson(SlotChangeResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            logger.error(e.getMessage(), e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StreamKey(LocalDate date, long themeId) {
+    }
+
+    private class Subscriber {
+        private final StreamKey key;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(StreamKey key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Set<DataWithMediaType> message) {
+            if (closed.get()) {
+                return;
+            }
+            if (pendingCount.incrementAndGet() > maxPendingMessages) {
+                logger.debug("전송이 밀린 구독자의 연결을 끊습니다. key={}", key);
+                disconnect();
+                return;
+            }
+            pending.add(message);
+            scheduleDrain();
+        }
+
+        void enqueueHeartbeatIfIdle() {
+            if (pendingCount.get() == 0 && !draining.get()) {
+                enqueue(HEARTBEAT);
+            }
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                disconnect();
+            }
+        }
+
+        private void drain() {
+            Set<DataWithMediaType> message;
+            while (!closed.get() && (message = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                send(message);
+            }
+            draining.set(false);
+            if (!closed.get() && !pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(Set<DataWithMediaType> message) {
+            try {
+                emitter.send(message);
+            } catch (IOException | IllegalStateException e) {
+                close();
+                emitter.completeWithError(e);
+            }
+        }
+
+        private void disconnect() {
+            if (!close()) {
+                return;
+            }
+            try {
+                executor.execute(emitter::complete);
+            } catch (RejectedExecutionException e) {
+                emitter.complete();
+            }
+        }
+
+        private boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            unsubscribe(this);
+            pending.clear();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package roomescape.presentation;
+
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.infrastructure.cache.CacheStats;
+import roomescape.infrastructure.cache.CatalogCache;
+
+@RestController
+public class CatalogCacheController {
+    private final Map<String, CatalogCache<?>> caches;
+
+    public CatalogCacheController(Map<String, CatalogCache<?>> caches) {
+        this.caches = caches;
+    }
+
+    @GetMapping("/admin/caches")
+    public ResponseEntity<Map<String, CacheStats>> findCacheStats() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return ResponseEntity.ok(stats);
+    }
+}
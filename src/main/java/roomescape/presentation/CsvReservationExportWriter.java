@@ -0,0 +1,56 @@
+package roomescape.presentation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import roomescape.application.dto.response.ReservationResponse;
+import roomescape.application.dto.response.ReservationTimeResponse;
+import roomescape.application.dto.response.ThemeResponse;
+
+class CsvReservationExportWriter implements ReservationExportWriter {
+    private static final String HEADER = "id,name,date,time_id,start_at,theme_id,theme_name";
+
+    private final Writer writer;
+
+    CsvReservationExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(ReservationResponse response) throws IOException {
+        ReservationTimeResponse time = response.time();
+        ThemeResponse theme = response.theme();
+        writer.write(Long.toString(response.id()));
+        writer.write(',');
+        writer.write(escape(response.name()));
+        writer.write(',');
+        writer.write(response.date().toString());
+        writer.write(',');
+        writer.write(Long.toString(time.id()));
+        writer.write(',');
+        writer.write(time.startAt().toString());
+        writer.write(',');
+        writer.write(Long.toString(theme.id()));
+        writer.write(',');
+        writer.write(escape(theme.name()));
+        writer.write('\n');
+    }
+
+    private String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
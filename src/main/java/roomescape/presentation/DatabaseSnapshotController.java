@@ -0,0 +1,35 @@
+package roomescape.presentation;
+
+import java.net.URI;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.infrastructure.snapshot.DatabaseSnapshot;
+import roomescape.infrastructure.snapshot.H2SnapshotManager;
+
+@RestController
+@RequestMapping("/admin/snapshots")
+@ConditionalOnProperty(name = "roomescape.persistence.enabled", havingValue = "true")
+public class DatabaseSnapshotController {
+    private final H2SnapshotManager snapshotManager;
+
+    public DatabaseSnapshotController(H2SnapshotManager snapshotManager) {
+        this.snapshotManager = snapshotManager;
+    }
+
+    @PostMapping
+    public ResponseEntity<DatabaseSnapshot> create() {
+        DatabaseSnapshot snapshot = snapshotManager.create();
+        URI location = URI.create("/admin/snapshots/" + snapshot.name());
+        return ResponseEntity.created(location).body(snapshot);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<DatabaseSnapshot>> findAll() {
+        return ResponseEntity.ok(snapshotManager.findAll());
+    }
+}
@@ -0,0 +1,32 @@
+package roomescape.presentation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import roomescape.application.dto.response.ReservationResponse;
+
+class NdjsonReservationExportWriter implements ReservationExportWriter {
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+
+    NdjsonReservationExportWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        this.generator.setRootValueSeparator(null);
+        this.objectWriter = objectMapper.writerFor(ReservationResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(ReservationResponse response) throws IOException {
+        objectWriter.writeValue(generator, response);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,45 @@
+package roomescape.presentation;
+
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "roomescape.startup.lazy-non-critical", havingValue = "true")
+public class NonCriticalLazyInitPostProcessor implements BeanFactoryPostProcessor {
+    private static final Set<Class<?>> NON_CRITICAL_TYPES = Set.of(
+            AdminController.class, ClientController.class, CatalogCacheController.class,
+            StatementStatisticsController.class
+    );
+    private static final List<String> NON_CRITICAL_PACKAGES = List.of(
+            "org.thymeleaf.",
+            "org.springframework.boot.autoconfigure.thymeleaf."
+    );
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (isNonCritical(beanFactory, beanName, definition)) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    private boolean isNonCritical(ConfigurableListableBeanFactory beanFactory, String beanName,
+                                  BeanDefinition definition) {
+        String declaringBeanName = definition.getFactoryBeanName() == null
+                ? beanName
+                : definition.getFactoryBeanName();
+        Class<?> type = beanFactory.getType(declaringBeanName, false);
+        if (type == null) {
+            return false;
+        }
+        return NON_CRITICAL_TYPES.contains(type)
+                || NON_CRITICAL_PACKAGES.stream().anyMatch(type.getName()::startsWith);
+    }
+}
@@ -0,0 +1,23 @@
+package roomescape.presentation;
+
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.ErrorResponseException;
+
+public class RateLimitExceededException extends ErrorResponseException {
+
+    public RateLimitExceededException(Duration retryAfter) {
+        super(HttpStatus.TOO_MANY_REQUESTS, createBody(), null);
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    }
+
+    private static ProblemDetail createBody() {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        problemDetail.setTitle("요청 한도를 초과했습니다.");
+        return problemDetail;
+    }
+}
@@ -0,0 +1,122 @@
+package roomescape.presentation;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import roomescape.presentation.RateLimitProperties.Rule;
+
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final List<Rule> rules;
+    private final int maxBuckets;
+    private final String clientHeader;
+    private final Set<String> trustedProxies;
+    private final Map<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket[] overflowBuckets;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public RateLimitInterceptor(RateLimitProperties properties) {
+        this.rules = properties.rules()
+                .stream()
+                .sorted(Comparator.comparing(rule -> rule.client() == null))
+                .toList();
+        this.maxBuckets = properties.maxBuckets();
+        this.clientHeader = properties.clientHeader();
+        this.trustedProxies = Set.copyOf(properties.trustedProxies());
+        long now = System.nanoTime();
+        this.overflowBuckets = rules.stream()
+                .map(rule -> new TokenBucket(rule.capacity(), rule.refillPeriod(), now))
+                .toArray(TokenBucket[]::new);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return true;
+        }
+        String client = resolveClient(request);
+        int ruleIndex = findRuleIndex(request.getMethod(), pattern.toString(), client);
+        if (ruleIndex < 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        long waitNanos = findBucket(ruleIndex, client, now).tryConsume(now);
+        if (waitNanos > 0) {
+            throw new RateLimitExceededException(Duration.ofNanos(waitNanos));
+        }
+        return true;
+    }
+
+    private String resolveClient(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (clientHeader == null || !trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwarded = request.getHeader(clientHeader);
+        if (forwarded == null || forwarded.isBlank()) {
+            return remoteAddr;
+        }
+        return forwarded.substring(forwarded.lastIndexOf(',') + 1).trim();
+    }
+
+    private int findRuleIndex(String method, String pattern, String client) {
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i).matches(method, pattern, client)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private TokenBucket findBucket(int ruleIndex, String client, long now) {
+        BucketKey key = new BucketKey(ruleIndex, client);
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            evictIdle(now);
+            if (buckets.size() >= maxBuckets) {
+                return overflowBuckets[ruleIndex];
+            }
+        }
+        Rule rule = rules.get(ruleIndex);
+        return buckets.computeIfAbsent(key, ignored -> new TokenBucket(rule.capacity(), rule.refillPeriod(), now));
+    }
+
+    @Scheduled(fixedDelayString = "${roomescape.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        evictIdle(System.nanoTime());
+    }
+
+    int evictIdle(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            int sizeBefore = buckets.size();
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+            return sizeBefore - buckets.size();
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private record BucketKey(int ruleIndex, String client) {
+    }
+}
@@ -0,0 +1,38 @@
+package roomescape.presentation;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("roomescape.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxBuckets,
+        String clientHeader,
+        List<String> trustedProxies,
+        List<Rule> rules
+) {
+
+    public RateLimitProperties {
+        trustedProxies = trustedProxies == null ? List.of() : List.copyOf(trustedProxies);
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    public record Rule(String method, String pattern, String client, long capacity, Duration refillPeriod) {
+
+        public Rule {
+            if (method == null || pattern == null || capacity < 1
+                    || refillPeriod == null || refillPeriod.isNegative() || refillPeriod.isZero()) {
+                throw new IllegalArgumentException(
+                        String.format("요청 제한 설정이 올바르지 않습니다. %s %s", method, pattern));
+            }
+        }
+
+        boolean matches(String requestMethod, String requestPattern, String requestClient) {
+            return method.equalsIgnoreCase(requestMethod)
+                    && pattern.equals(requestPattern)
+                    && (client == null || client.equals(requestClient));
+        }
+    }
+}
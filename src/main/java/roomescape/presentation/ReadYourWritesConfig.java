@@ -0,0 +1,24 @@
+package roomescape.presentation;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "roomescape.datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesConfig implements WebMvcConfigurer {
+    private final Duration readYourWritesWindow;
+
+    public ReadYourWritesConfig(
+            @Value("${roomescape.datasource.replica.read-your-writes-window:PT1S}") Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(readYourWritesWindow));
+    }
+}
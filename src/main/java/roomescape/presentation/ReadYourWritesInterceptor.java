@@ -0,0 +1,53 @@
+package roomescape.presentation;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+import roomescape.infrastructure.datasource.ReadYourWritesContext;
+
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+    static final String COOKIE_NAME = "recent-write";
+
+    private final long maxAgeSeconds;
+
+    public ReadYourWritesInterceptor(Duration readYourWritesWindow) {
+        Duration roundedUp = readYourWritesWindow.plusSeconds(1).minusNanos(1);
+        this.maxAgeSeconds = roundedUp.getSeconds();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        boolean recentlyWritten = WebUtils.getCookie(request, COOKIE_NAME) != null;
+        ReadYourWritesContext.open(recentlyWritten, () -> addCookie(response));
+        return true;
+    }
+
+    private void addCookie(HttpServletResponse response) {
+        if (maxAgeSeconds <= 0 || response.isCommitted()) {
+            return;
+        }
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, "1")
+                .path("/")
+                .maxAge(maxAgeSeconds)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+        response.setHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception exception) {
+        ReadYourWritesContext.close();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        ReadYourWritesContext.close();
+    }
+}
@@ -1,42 +1,129 @@
 package roomescape.presentation;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
-import java.util.List;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import roomescape.application.IdempotencyService;
+import roomescape.application.ReservationArchiveService;
 import roomescape.application.ReservationService;
+import roomescape.application.dto.request.ReservationBatchRequest;
 import roomescape.application.dto.request.ReservationRequest;
+import roomescape.application.dto.request.ReservationSearchRequest;
+import roomescape.application.dto.response.ReservationBatchResponse;
+import roomescape.application.dto.response.ReservationPageResponse;
 import roomescape.application.dto.response.ReservationResponse;
 
 @RestController
 @RequestMapping("/reservations")
 public class ReservationController {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final ReservationService service;
+    private final ReservationArchiveService archiveService;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+    private final Duration exportTimeout;
 
-    public ReservationController(ReservationService service) {
+    public ReservationController(ReservationService service,
+                                 ReservationArchiveService archiveService,
+                                 IdempotencyService idempotencyService,
+                                 ObjectMapper objectMapper,
+                                 @Value("${roomescape.reservation.export.timeout:PT30M}") Duration exportTimeout) {
         this.service = service;
+        this.archiveService = archiveService;
+        this.idempotencyService = idempotencyService;
+        this.objectMapper = objectMapper;
+        this.exportTimeout = exportTimeout;
     }
 
     @GetMapping
-    public ResponseEntity<List<ReservationResponse>> findAll() {
-        List<ReservationResponse> responses = service.findAll();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<ReservationPageResponse> findAll(@Valid ReservationSearchRequest request) {
+        ReservationPageResponse response = service.findAll(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/history")
+    public ResponseEntity<ReservationPageResponse> findHistory(@Valid ReservationSearchRequest request) {
+        ReservationPageResponse response = archiveService.findAll(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format,
+                                                        HttpServletRequest request) {
+        ReservationExportFormat exportFormat = ReservationExportFormat.from(format);
+        AsyncTimeoutConfig.setTimeout(request, exportTimeout);
+        StreamingResponseBody body = outputStream -> {
+            try (ReservationExportWriter writer = exportFormat.open(outputStream, objectMapper)) {
+                service.export(response -> write(writer, response));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .body(body);
+    }
+
+    private void write(ReservationExportWriter writer, ReservationResponse response) {
+        try {
+            writer.write(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @PostMapping
-    public ResponseEntity<ReservationResponse> create(@RequestBody @Valid ReservationRequest request) {
-        ReservationResponse response = service.create(request);
+    public ResponseEntity<ReservationResponse> create(
+            @RequestBody @Valid ReservationRequest request,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        ReservationResponse response = idempotencyKey == null
+                ? service.create(request)
+                : createIdempotently(idempotencyKey, request);
         URI location = URI.create("/reservations/" + response.id());
         return ResponseEntity.created(location).body(response);
     }
 
+    private ReservationResponse createIdempotently(String idempotencyKey, ReservationRequest request) {
+        String body = idempotencyService.execute(
+                idempotencyKey, toJson(request), () -> toJson(service.create(request))
+        );
+        try {
+            return objectMapper.readValue(body, ReservationResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<ReservationBatchResponse> createAll(@RequestBody @Valid ReservationBatchRequest request) {
+        ReservationBatchResponse response = service.createAll(request);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable long id) {
         service.deleteById(id);
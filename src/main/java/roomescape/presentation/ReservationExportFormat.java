@@ -0,0 +1,43 @@
+package roomescape.presentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.springframework.http.MediaType;
+import roomescape.exception.RoomescapeException;
+
+enum ReservationExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson")) {
+        @Override
+        ReservationExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+            return new NdjsonReservationExportWriter(outputStream, objectMapper);
+        }
+    },
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8)) {
+        @Override
+        ReservationExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+            return new CsvReservationExportWriter(outputStream);
+        }
+    };
+
+    private final MediaType mediaType;
+
+    ReservationExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    static ReservationExportFormat from(String format) {
+        return Arrays.stream(values())
+                .filter(value -> value.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new RoomescapeException("지원하지 않는 내보내기 형식입니다."));
+    }
+
+    abstract ReservationExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException;
+
+    MediaType getMediaType() {
+        return mediaType;
+    }
+}
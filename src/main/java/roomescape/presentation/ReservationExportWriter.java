@@ -0,0 +1,10 @@
+package roomescape.presentation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import roomescape.application.dto.response.ReservationResponse;
+
+interface ReservationExportWriter extends Closeable {
+
+    void write(ReservationResponse response) throws IOException;
+}
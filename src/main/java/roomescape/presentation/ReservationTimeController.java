@@ -4,6 +4,8 @@ import jakarta.validation.Valid;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,18 +15,26 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import roomescape.application.ReservationTimeService;
 import roomescape.application.dto.request.ReservationTimeRequest;
+import roomescape.application.dto.response.AvailabilityRangeResponse;
 import roomescape.application.dto.response.AvailableTimeResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
 
 @RestController
 @RequestMapping("/times")
 public class ReservationTimeController {
+    private static final CacheControl CATALOG_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
     private final ReservationTimeService reservationTimeService;
+    private final AvailabilityStreamBroadcaster availabilityStreamBroadcaster;
 
-    public ReservationTimeController(ReservationTimeService reservationTimeService) {
+    public ReservationTimeController(ReservationTimeService reservationTimeService,
+                                     AvailabilityStreamBroadcaster availabilityStreamBroadcaster) {
         this.reservationTimeService = reservationTimeService;
+        this.availabilityStreamBroadcaster = availabilityStreamBroadcaster;
     }
 
     @PostMapping
@@ -35,9 +45,14 @@ public class ReservationTimeController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ReservationTimeResponse>> findAll() {
+    public ResponseEntity<List<ReservationTimeResponse>> findAll(WebRequest request) {
+        if (request.checkNotModified(reservationTimeService.getCatalogTag())) {
+            return null;
+        }
         List<ReservationTimeResponse> responses = reservationTimeService.findAll();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok()
+                .cacheControl(CATALOG_CACHE_CONTROL)
+                .body(responses);
     }
 
     @DeleteMapping("/{id}")
@@ -52,4 +67,17 @@ public class ReservationTimeController {
         List<AvailableTimeResponse> responses = reservationTimeService.findAvailableTimes(date, themeId);
         return ResponseEntity.ok(responses);
     }
+
+    @GetMapping("/available/range")
+    public ResponseEntity<AvailabilityRangeResponse> findAvailabilityRange(@RequestParam long themeId,
+                                                                           @RequestParam LocalDate from,
+                                                                           @RequestParam LocalDate to) {
+        AvailabilityRangeResponse response = reservationTimeService.findAvailabilityRange(themeId, from, to);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/available/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailableTimes(@RequestParam LocalDate date, @RequestParam long themeId) {
+        return availabilityStreamBroadcaster.subscribe(date, themeId);
+    }
 }
@@ -0,0 +1,33 @@
+package roomescape.presentation;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.infrastructure.sql.StatementStatistics;
+import roomescape.infrastructure.sql.StatementStats;
+
+@RestController
+@RequestMapping("/admin/statements")
+@ConditionalOnProperty(name = "roomescape.statement-stats.enabled", havingValue = "true")
+public class StatementStatisticsController {
+    private final StatementStatistics statementStatistics;
+
+    public StatementStatisticsController(StatementStatistics statementStatistics) {
+        this.statementStatistics = statementStatistics;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<StatementStats>> findAll() {
+        return ResponseEntity.ok(statementStatistics.findAll());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        statementStatistics.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
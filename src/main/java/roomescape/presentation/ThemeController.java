@@ -2,7 +2,9 @@ package roomescape.presentation;
 
 import jakarta.validation.Valid;
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import roomescape.application.ThemeService;
 import roomescape.application.dto.request.ThemeRequest;
 import roomescape.application.dto.response.ThemeResponse;
@@ -18,6 +21,10 @@ import roomescape.application.dto.response.ThemeResponse;
 @RestController
 @RequestMapping("/themes")
 public class ThemeController {
+    private static final CacheControl CATALOG_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+    private static final CacheControl POPULAR_THEMES_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5))
+            .cachePublic();
+
     private final ThemeService themeService;
 
     public ThemeController(ThemeService themeService) {
@@ -25,9 +32,14 @@ public class ThemeController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ThemeResponse>> findAll() {
+    public ResponseEntity<List<ThemeResponse>> findAll(WebRequest request) {
+        if (request.checkNotModified(themeService.getCatalogTag())) {
+            return null;
+        }
         List<ThemeResponse> responses = themeService.findAll();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok()
+                .cacheControl(CATALOG_CACHE_CONTROL)
+                .body(responses);
     }
 
     @PostMapping
@@ -44,8 +56,13 @@ public class ThemeController {
     }
 
     @GetMapping("/popular")
-    public ResponseEntity<List<ThemeResponse>> findPopularThemes() {
+    public ResponseEntity<List<ThemeResponse>> findPopularThemes(WebRequest request) {
+        if (request.checkNotModified(themeService.getPopularThemesTag())) {
+            return null;
+        }
         List<ThemeResponse> responses = themeService.findPopularThemes();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok()
+                .cacheControl(POPULAR_THEMES_CACHE_CONTROL)
+                .body(responses);
     }
 }
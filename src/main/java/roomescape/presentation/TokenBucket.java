@@ -0,0 +1,34 @@
+package roomescape.presentation;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+class TokenBucket {
+    private final long refillNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    TokenBucket(long capacity, Duration refillPeriod, long nowNanos) {
+        this.refillNanos = refillPeriod.toNanos();
+        this.burstNanos = refillNanos * capacity;
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    long tryConsume(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrivalNanos.get();
+            long nextArrival = Math.max(arrival, nowNanos) + refillNanos;
+            long waitNanos = nextArrival - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(arrival, nextArrival)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean isFull(long nowNanos) {
+        return theoreticalArrivalNanos.get() - nowNanos <= 0;
+    }
+}
@@ -23,5 +23,49 @@ create table if not exists reservation
     theme_id bigint       not null,
     primary key (id),
     foreign key (time_id) references reservation_time (id),
-    foreign key (theme_id) references theme (id)
+    foreign key (theme_id) references theme (id),
+    constraint uk_reservation_slot unique (date, time_id, theme_id)
 );
+
+create table if not exists theme_daily_stats
+(
+    date              date   not null,
+    theme_id          bigint not null,
+    reservation_count bigint not null,
+    primary key (date, theme_id)
+);
+
+create table if not exists reservation_archive
+(
+    id          bigint       not null,
+    name        varchar(20)  not null,
+    date        date         not null,
+    time_id     bigint       not null,
+    start_at    time         not null,
+    theme_id    bigint       not null,
+    theme_name  varchar(20)  not null,
+    description varchar(200) not null,
+    thumbnail   varchar(200) not null,
+    primary key (id)
+);
+
+create table if not exists idempotent_response
+(
+    idempotency_key varchar(255)  not null,
+    request_hash    char(64)      not null,
+    body            varchar(4000) not null,
+    created_at      timestamp     not null,
+    primary key (idempotency_key)
+);
+
+create index if not exists idx_reservation_theme_date on reservation (theme_id, date);
+
+create index if not exists idx_reservation_theme_id on reservation (theme_id, id);
+
+drop index if exists idx_reservation_name;
+
+create index if not exists idx_reservation_name_id on reservation (name, id);
+
+create index if not exists idx_reservation_archive_date on reservation_archive (date);
+
+create index if not exists idx_idempotent_response_created_at on idempotent_response (created_at);
@@ -4,21 +4,54 @@ const TIME_API_ENDPOINT = '/times';
 const THEME_API_ENDPOINT = '/themes';
 const timesOptions = [];
 const themesOptions = [];
+let reservationFilter = {};
 
 document.addEventListener('DOMContentLoaded', () => {
   document.getElementById('add-button').addEventListener('click', addInputRow);
+  document.getElementById('filter-form').addEventListener('submit', applyFilter);
 
-  requestRead(RESERVATION_API_ENDPOINT)
-      .then(render)
-      .catch(error => console.error('Error fetching reservations:', error));
-
+  fetchReservations();
   fetchTimes();
   fetchThemes();
 });
 
-function render(data) {
+function fetchReservations(cursor) {
+  const params = new URLSearchParams(reservationFilter);
+  if (cursor) params.append('cursor', cursor);
+
+  requestRead(`${RESERVATION_API_ENDPOINT}?${params}`)
+      .then(page => {
+        render(page.reservations, Boolean(cursor));
+        renderMoreButton(page.nextCursor);
+      })
+      .catch(error => console.error('Error fetching reservations:', error));
+}
+
+function applyFilter(event) {
+  event.preventDefault();
+  const themeId = document.getElementById('theme').value;
+  const dateFrom = document.getElementById('date-from').value;
+  const dateTo = document.getElementById('date-to').value;
+
+  reservationFilter = {};
+  if (themeId) reservationFilter.themeId = themeId;
+  if (dateFrom) reservationFilter.dateFrom = dateFrom;
+  if (dateTo) reservationFilter.dateTo = dateTo;
+  fetchReservations();
+}
+
+function renderMoreButton(nextCursor) {
+  document.getElementById('more-button')?.remove();
+  if (!nextCursor) return;
+
+  const button = createActionButton('더 보기', 'btn-secondary', () => fetchReservations(nextCursor));
+  button.id = 'more-button';
+  document.querySelector('.table').after(button);
+}
+
+function render(data, append) {
   const tableBody = document.getElementById('table-body');
-  tableBody.innerHTML = '';
+  if (!append) tableBody.innerHTML = '';
 
   data.forEach(item => {
     const row = tableBody.insertRow();
@@ -50,6 +83,8 @@ function fetchThemes() {
   requestRead(THEME_API_ENDPOINT)
       .then(data => {
         themesOptions.push(...data);
+        const themeFilter = document.getElementById('theme');
+        data.forEach(theme => themeFilter.add(new Option(theme.name, theme.id)));
       })
       .catch(error => console.error('Error fetching theme:', error));
 }
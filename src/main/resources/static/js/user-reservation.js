@@ -1,4 +1,5 @@
 const THEME_API_ENDPOINT = '/themes';
+let availabilityStream = null;
 
 document.addEventListener('DOMContentLoaded', () => {
   requestRead(THEME_API_ENDPOINT)
@@ -82,7 +83,8 @@ function checkDateAndTheme() {
 }
 
 function fetchAvailableTimes(date, themeId) {
-  fetch('/available-times?date='+date+"&themeId="+themeId, { // 예약 가능 시간 조회 API endpoint
+  subscribeAvailableTimes(date, themeId);
+  fetch('/times/available?date='+date+"&themeId="+themeId, { // 예약 가능 시간 조회 API endpoint
     method: 'GET',
     headers: {
       'Content-Type': 'application/json',
@@ -94,6 +96,30 @@ function fetchAvailableTimes(date, themeId) {
   .catch(error => console.error("Error fetching available times:", error));
 }
 
+function subscribeAvailableTimes(date, themeId) {
+  if (availabilityStream) {
+    availabilityStream.close();
+  }
+  availabilityStream = new EventSource('/times/available/stream?date=' + date + '&themeId=' + themeId);
+  availabilityStream.addEventListener('slot', event => {
+    const change = JSON.parse(event.data);
+    updateTimeSlot(change.timeId, change.booked);
+  });
+}
+
+function updateTimeSlot(timeId, booked) {
+  const slot = document.querySelector('.time-slot[data-time-id="' + timeId + '"]');
+  if (!slot) return;
+  slot.setAttribute('data-time-booked', booked);
+  if (booked) {
+    slot.classList.add('disabled');
+    slot.classList.remove('active');
+  } else {
+    slot.classList.remove('disabled');
+  }
+  checkDateAndThemeAndTime();
+}
+
 function renderAvailableTimes(times) {
   const timeSection = document.getElementById("time-section");
   if (timeSection.classList.contains("disabled")) {
@@ -0,0 +1,87 @@
+package roomescape.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.ReservationTimeRepository;
+import roomescape.domain.Theme;
+import roomescape.domain.ThemeName;
+import roomescape.domain.ThemeRepository;
+import roomescape.domain.TimeSlot;
+
+@ServiceTest
+class AvailabilityIndexTest {
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("데이터베이스에 직접 반영된 예약은 일관성 검사에서 발견하여 복구한다.")
+    @Test
+    void shouldRepairIndexWhenDatabaseChangedOutsideOfService() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("테마1"), "테마1 설명", "url"));
+        LocalDate date = LocalDate.of(2000, 1, 2);
+        availabilityIndex.getTimeSlots(date, theme.getId());
+        jdbcTemplate.update("insert into reservation (name, date, time_id, theme_id) values (?, ?, ?, ?)",
+                "오리", date, time.getId(), theme.getId());
+
+        int repairedCount = availabilityIndex.checkConsistency();
+
+        List<TimeSlot> timeSlots = availabilityIndex.getTimeSlots(date, theme.getId());
+        assertAll(
+                () -> assertThat(repairedCount).isOne(),
+                () -> assertThat(timeSlots).extracting(TimeSlot::isBooked).containsExactly(true)
+        );
+    }
+
+    @DisplayName("지난 날짜는 인덱스에 보관하지 않고 데이터베이스에서 조회한다.")
+    @Test
+    void shouldNotKeepPastDatesInIndex() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("테마1"), "테마1 설명", "url"));
+        LocalDate pastDate = LocalDate.of(1999, 12, 31);
+        jdbcTemplate.update("insert into reservation (name, date, time_id, theme_id) values (?, ?, ?, ?)",
+                "오리", pastDate, time.getId(), theme.getId());
+
+        assertAll(
+                () -> assertThat(availabilityIndex.getTimeSlots(pastDate, theme.getId()))
+                        .extracting(TimeSlot::isBooked)
+                        .containsExactly(true),
+                () -> assertThat(availabilityIndex.checkConsistency()).isZero()
+        );
+    }
+
+    @DisplayName("보관 기간을 넘는 먼 미래 날짜는 인덱스에 보관하지 않고 데이터베이스에서 조회한다.")
+    @Test
+    void shouldNotKeepDatesBeyondCacheHorizonInIndex() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("테마1"), "테마1 설명", "url"));
+        LocalDate farDate = LocalDate.of(9999, 12, 31);
+        availabilityIndex.getTimeSlots(farDate, theme.getId());
+        jdbcTemplate.update("insert into reservation (name, date, time_id, theme_id) values (?, ?, ?, ?)",
+                "오리", farDate, time.getId(), theme.getId());
+
+        assertAll(
+                () -> assertThat(availabilityIndex.getTimeSlots(farDate, theme.getId()))
+                        .extracting(TimeSlot::isBooked)
+                        .containsExactly(true),
+                () -> assertThat(availabilityIndex.checkConsistency()).isZero()
+        );
+    }
+}
@@ -0,0 +1,153 @@
+package roomescape.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import roomescape.domain.IdempotentResponse;
+import roomescape.domain.IdempotentResponseRepository;
+import roomescape.exception.RoomescapeException;
+
+@ServiceTest
+class IdempotencyServiceTest {
+    private static final String REQUEST = "{\"name\":\"test\"}";
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotentResponseRepository idempotentResponseRepository;
+
+    @Autowired
+    private Clock clock;
+
+    @DisplayName("같은 멱등 키로 다시 요청하면 작업을 다시 실행하지 않고 처음 응답을 반환한다.")
+    @Test
+    void shouldReplayStoredResponseWhenSameKey() {
+        AtomicInteger executions = new AtomicInteger();
+
+        String first = idempotencyService.execute("key", REQUEST, () -> "response-" + executions.incrementAndGet());
+        String second = idempotencyService.execute("key", REQUEST, () -> "response-" + executions.incrementAndGet());
+
+        assertAll(
+                () -> assertThat(first).isEqualTo("response-1"),
+                () -> assertThat(second).isEqualTo("response-1"),
+                () -> assertThat(executions).hasValue(1)
+        );
+    }
+
+    @DisplayName("메모리 캐시가 비어도 테이블에 저장된 응답을 반환한다.")
+    @Test
+    void shouldReplayFromTableWhenCacheCleared() {
+        idempotencyService.execute("key", REQUEST, () -> "response");
+        idempotencyService.clear();
+
+        String replayed = idempotencyService.execute("key", REQUEST, () -> "other");
+
+        assertThat(replayed).isEqualTo("response");
+    }
+
+    @DisplayName("같은 멱등 키로 다른 요청을 보내면 예외가 발생한다.")
+    @Test
+    void shouldThrowExceptionWhenSameKeyWithDifferentRequest() {
+        idempotencyService.execute("key", REQUEST, () -> "response");
+
+        assertThatThrownBy(() -> idempotencyService.execute("key", "{\"name\":\"other\"}", () -> "response"))
+                .isInstanceOf(RoomescapeException.class)
+                .hasMessage("같은 멱등 키로 다른 요청을 보낼 수 없습니다.");
+    }
+
+    @DisplayName("작업이 실패하면 멱등 키를 저장하지 않아 다시 시도할 수 있다.")
+    @Test
+    void shouldNotStoreKeyWhenActionFails() {
+        assertThatThrownBy(() -> idempotencyService.execute("key", REQUEST, () -> {
+            throw new RoomescapeException("이미 존재하는 예약입니다.");
+        })).isInstanceOf(RoomescapeException.class);
+
+        String retried = idempotencyService.execute("key", REQUEST, () -> "response");
+
+        assertThat(retried).isEqualTo("response");
+    }
+
+    @DisplayName("동시에 들어온 같은 멱등 키 요청은 먼저 실행 중인 작업의 결과를 기다린다.")
+    @Test
+    void shouldWaitInFlightResultWhenConcurrentDuplicates() throws Exception {
+        int requestCount = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+        try {
+            List<Future<String>> results = IntStream.range(0, requestCount)
+                    .mapToObj(i -> executorService.submit(() -> idempotencyService.execute("key", REQUEST, () -> {
+                        executions.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return "response";
+                    })))
+                    .toList();
+            started.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("response");
+            }
+            assertThat(executions).hasValue(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @DisplayName("보관 기간이 지난 멱등 키는 지우고, 같은 키로 다시 요청하면 새로 실행한다.")
+    @Test
+    void shouldPurgeExpiredKeys() {
+        LocalDateTime expired = LocalDateTime.now(clock).minusDays(2);
+        idempotentResponseRepository.save(new IdempotentResponse("expired", "hash", "old", expired));
+        idempotencyService.execute("alive", REQUEST, () -> "response");
+
+        int purgedCount = idempotencyService.purgeExpired();
+
+        assertAll(
+                () -> assertThat(purgedCount).isOne(),
+                () -> assertThat(idempotencyService.execute("expired", REQUEST, () -> "new")).isEqualTo("new"),
+                () -> assertThat(idempotencyService.execute("alive", REQUEST, () -> "other")).isEqualTo("response")
+        );
+    }
+
+    @DisplayName("보관 기간이 지난 멱등 키는 지워지기 전이라도 같은 키로 다시 요청하면 새로 실행한다.")
+    @Test
+    void shouldExecuteAgainWhenStoredKeyExpiredBeforePurge() {
+        LocalDateTime expired = LocalDateTime.now(clock).minusDays(2);
+        idempotentResponseRepository.save(new IdempotentResponse("expired", "hash", "old", expired));
+
+        String response = idempotencyService.execute("expired", REQUEST, () -> "new");
+
+        assertAll(
+                () -> assertThat(response).isEqualTo("new"),
+                () -> assertThat(idempotentResponseRepository.findByKey("expired"))
+                        .hasValueSatisfying(stored -> assertThat(stored.body()).isEqualTo("new"))
+        );
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
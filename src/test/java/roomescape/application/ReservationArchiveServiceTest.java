@@ -0,0 +1,112 @@
+package roomescape.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import roomescape.application.dto.request.ReservationSearchRequest;
+import roomescape.application.dto.response.ReservationPageResponse;
+import roomescape.application.dto.response.ReservationResponse;
+import roomescape.domain.ReservationRepository;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.ReservationTimeRepository;
+import roomescape.domain.Theme;
+import roomescape.domain.ThemeName;
+import roomescape.domain.ThemeRepository;
+
+@ServiceTest
+@TestPropertySource(properties = "roomescape.archive.chunk-size=2")
+class ReservationArchiveServiceTest {
+    @Autowired
+    private ReservationArchiveService reservationArchiveService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    @DisplayName("보관 기준보다 오래된 예약을 여러 트랜잭션에 나누어 보관 테이블로 옮긴다.")
+    @Test
+    void shouldMoveReservationsOlderThanHorizonWhenArchive() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("테마1"), "테마1 설명", "url"));
+        LocalDate today = LocalDate.now(clock);
+        for (int days = 31; days <= 35; days++) {
+            insertReservation(today.minusDays(days), time, theme);
+        }
+        insertReservation(today.minusDays(30), time, theme);
+        insertReservation(today, time, theme);
+
+        int archivedCount = reservationArchiveService.archive();
+
+        ReservationPageResponse history = reservationArchiveService.findAll(
+                new ReservationSearchRequest(theme.getId(), null, null, null, null, null)
+        );
+        assertAll(
+                () -> assertThat(archivedCount).isEqualTo(5),
+                () -> assertThat(findAllReservations()).hasSize(2),
+                () -> assertThat(history.reservations()).extracting(ReservationResponse::date)
+                        .allMatch(date -> date.isBefore(today.minusDays(30)))
+                        .hasSize(5)
+        );
+    }
+
+    @DisplayName("보관 기준이 8일보다 짧으면 예외가 발생한다.")
+    @Test
+    void shouldThrowExceptionWhenHorizonIsShorterThanEightDays() {
+        assertThatCode(() -> new ReservationArchiveService(null, null, clock, Duration.ofDays(7), 1000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("예약 보관 기준은 8일 이상이어야 합니다.");
+    }
+
+    @DisplayName("보관 테이블로 옮긴 예약은 내보내기에 포함하지 않는다.")
+    @Test
+    void shouldExcludeArchivedReservationsFromExport() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("테마1"), "테마1 설명", "url"));
+        LocalDate today = LocalDate.now(clock);
+        insertReservation(today.minusDays(31), time, theme);
+        insertReservation(today, time, theme);
+
+        reservationArchiveService.archive();
+        List<ReservationResponse> exported = new ArrayList<>();
+        reservationService.export(exported::add);
+
+        assertThat(exported).extracting(ReservationResponse::date).containsExactly(today);
+    }
+
+    private void insertReservation(LocalDate date, ReservationTime time, Theme theme) {
+        jdbcTemplate.update("insert into reservation (name, date, time_id, theme_id) values (?, ?, ?, ?)",
+                "오리", date, time.getId(), theme.getId());
+    }
+
+    private List<Reservation> findAllReservations() {
+        List<Reservation> reservations = new ArrayList<>();
+        reservationRepository.scanAll(reservations::add);
+        return reservations;
+    }
+}
@@ -2,18 +2,40 @@ package roomescape.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.application.dto.request.ReservationBatchMode;
+import roomescape.application.dto.request.ReservationBatchRequest;
 import roomescape.application.dto.request.ReservationRequest;
-import roomescape.application.dto.response.ReservationResponse;
+import roomescape.application.dto.request.ReservationSearchRequest;
+import roomescape.application.dto.response.ReservationBatchItemResponse;
+import roomescape.application.dto.response.ReservationBatchResponse;
+import roomescape.application.dto.response.ReservationPageResponse;
 import roomescape.domain.PlayerName;
 import roomescape.domain.Reservation;
 import roomescape.domain.ReservationRepository;
+import roomescape.domain.ReservationSlot;
 import roomescape.domain.ReservationTime;
 import roomescape.domain.ReservationTimeRepository;
 import roomescape.domain.Theme;
@@ -35,6 +57,18 @@ class ReservationServiceTest {
     @Autowired
     private ThemeRepository themeRepository;
 
+    @Autowired
+    private SlotAdmission slotAdmission;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Clock clock;
+
     @DisplayName("정상적인 예약 요청을 받아서 저장한다.")
     @Test
     void shouldReturnReservationResponseWhenValidReservationRequestSave() {
@@ -49,7 +83,7 @@ class ReservationServiceTest {
 
         reservationService.create(reservationRequest);
 
-        List<Reservation> reservations = reservationRepository.findAll();
+        List<Reservation> reservations = findAllReservations();
         assertThat(reservations).hasSize(1);
     }
 
@@ -98,6 +132,50 @@ class ReservationServiceTest {
                 .hasMessage("이미 존재하는 예약입니다.");
     }
 
+    @DisplayName("같은 슬롯에 동시에 예약을 요청하면 슬롯마다 하나의 예약만 성공한다.")
+    @Test
+    void shouldCreateOnlyOneReservationPerSlotWhenConcurrentRequests() throws InterruptedException {
+        int slotCount = 4;
+        int requestsPerSlot = 16;
+        int totalRequests = slotCount * requestsPerSlot;
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("test"), "test", "test"));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(totalRequests);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(totalRequests);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger duplicatedCount = new AtomicInteger();
+        for (int i = 0; i < totalRequests; i++) {
+            LocalDate date = LocalDate.of(2024, 1, 1).plusDays(i % slotCount);
+            ReservationRequest request = new ReservationRequest(
+                    "user" + i, date.toString(), time.getId(), theme.getId()
+            );
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    reservationService.create(request);
+                    successCount.incrementAndGet();
+                } catch (RoomescapeException e) {
+                    duplicatedCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(slotCount),
+                () -> assertThat(duplicatedCount.get()).isEqualTo(totalRequests - slotCount),
+                () -> assertThat(findAllReservations()).hasSize(slotCount)
+        );
+    }
+
     @DisplayName("과거 시간을 예약하는 경우 예외를 반환한다.")
     @Test
     void shouldThrowsIllegalArgumentExceptionWhenReservationDateIsBeforeCurrentDate() {
@@ -113,12 +191,145 @@ class ReservationServiceTest {
                 .hasMessage("현재 시간보다 과거로 예약할 수 없습니다.");
     }
 
+    @DisplayName("여러 예약을 한 번에 저장한다.")
+    @Test
+    void shouldCreateAllReservationsWhenBatchRequestValid() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("test"), "test", "test"));
+        ReservationBatchRequest request = new ReservationBatchRequest(ReservationBatchMode.ALL_OR_NOTHING, List.of(
+                new ReservationRequest("user1", "2024-01-01", time.getId(), theme.getId()),
+                new ReservationRequest("user2", "2024-01-02", time.getId(), theme.getId())
+        ));
+
+        ReservationBatchResponse response = reservationService.createAll(request);
+
+        assertAll(
+                () -> assertThat(response.createdCount()).isEqualTo(2),
+                () -> assertThat(response.results()).allMatch(ReservationBatchItemResponse::created),
+                () -> assertThat(findAllReservations()).hasSize(2)
+        );
+    }
+
+    @DisplayName("모두 성공 모드에서 하나라도 실패하면 아무 예약도 저장하지 않는다.")
+    @Test
+    void shouldCreateNothingWhenAllOrNothingBatchHasFailure() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("test"), "test", "test"));
+        ReservationBatchRequest request = new ReservationBatchRequest(null, List.of(
+                new ReservationRequest("user1", "2024-01-01", time.getId(), theme.getId()),
+                new ReservationRequest("user2", "2024-01-02", time.getId(), 99L)
+        ));
+
+        ReservationBatchResponse response = reservationService.createAll(request);
+
+        assertAll(
+                () -> assertThat(response.mode()).isEqualTo(ReservationBatchMode.ALL_OR_NOTHING),
+                () -> assertThat(response.createdCount()).isZero(),
+                () -> assertThat(response.results())
+                        .extracting(ReservationBatchItemResponse::message)
+                        .containsExactly("다른 예약이 실패하여 함께 취소되었습니다.", "존재하지 않는 테마 입니다."),
+                () -> assertThat(findAllReservations()).isEmpty()
+        );
+    }
+
+    @DisplayName("최대한 저장 모드에서는 실패한 예약만 제외하고 저장한다.")
+    @Test
+    void shouldCreateValidReservationsWhenBestEffortBatchHasFailure() {
+        Reservation existing = saveReservation();
+        ReservationTime time = existing.getTime();
+        Theme theme = existing.getTheme();
+        ReservationBatchRequest request = new ReservationBatchRequest(ReservationBatchMode.BEST_EFFORT, List.of(
+                new ReservationRequest("user1", "2024-01-01", time.getId(), theme.getId()),
+                new ReservationRequest("user2", "2024-01-02", time.getId(), theme.getId()),
+                new ReservationRequest("user3", "2024-01-02", time.getId(), theme.getId()),
+                new ReservationRequest("user4", "1999-12-31", time.getId(), theme.getId()),
+                new ReservationRequest("user5", "2024-01-03", 99L, theme.getId())
+        ));
+
+        ReservationBatchResponse response = reservationService.createAll(request);
+
+        assertAll(
+                () -> assertThat(response.createdCount()).isOne(),
+                () -> assertThat(response.results())
+                        .extracting(ReservationBatchItemResponse::created)
+                        .containsExactly(false, true, false, false, false),
+                () -> assertThat(response.results())
+                        .extracting(ReservationBatchItemResponse::message)
+                        .containsExactly(
+                                "이미 존재하는 예약입니다.",
+                                null,
+                                "이미 존재하는 예약입니다.",
+                                "현재 시간보다 과거로 예약할 수 없습니다.",
+                                "존재하지 않는 예약 시간 입니다."
+                        ),
+                () -> assertThat(findAllReservations()).hasSize(2)
+        );
+    }
+
+    @DisplayName("최대한 저장 모드에서 확인 뒤에 다른 요청이 같은 슬롯을 차지하면 그 예약만 제외하고 저장한다.")
+    @Test
+    void shouldSaveEachReservationWhenBestEffortBatchConflictsConcurrently() {
+        Reservation existing = saveReservation();
+        long timeId = existing.getTime().getId();
+        long themeId = existing.getTheme().getId();
+        ReservationRepository staleCheckRepository = mock(
+                ReservationRepository.class, delegatesTo(reservationRepository)
+        );
+        doReturn(Set.of()).when(staleCheckRepository).findExistingSlots(any());
+        ReservationService service = new ReservationService(
+                staleCheckRepository, reservationTimeRepository, themeRepository,
+                eventPublisher, slotAdmission, transactionManager, clock
+        );
+        ReservationBatchRequest request = new ReservationBatchRequest(ReservationBatchMode.BEST_EFFORT, List.of(
+                new ReservationRequest("user1", "2024-01-01", timeId, themeId),
+                new ReservationRequest("user2", "2024-01-02", timeId, themeId)
+        ));
+
+        ReservationBatchResponse response = new TransactionTemplate(transactionManager)
+                .execute(status -> service.createAll(request));
+
+        assertAll(
+                () -> assertThat(response.results())
+                        .extracting(ReservationBatchItemResponse::created)
+                        .containsExactly(false, true),
+                () -> assertThat(response.results().get(0).message()).isEqualTo("이미 존재하는 예약입니다."),
+                () -> assertThat(findAllReservations()).hasSize(2)
+        );
+    }
+
+    @DisplayName("여러 예약을 한 번에 저장할 때도 처리 중인 슬롯의 예약은 거절한다.")
+    @Test
+    void shouldRejectBatchReservationWhenSlotInFlight() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("test"), "test", "test"));
+        ReservationBatchRequest request = new ReservationBatchRequest(ReservationBatchMode.BEST_EFFORT, List.of(
+                new ReservationRequest("user1", "2024-01-01", time.getId(), theme.getId()),
+                new ReservationRequest("user2", "2024-01-02", time.getId(), theme.getId())
+        ));
+
+        ReservationBatchResponse response = new TransactionTemplate(transactionManager).execute(status -> {
+            slotAdmission.tryAcquire(new ReservationSlot(LocalDate.of(2024, 1, 1), time.getId(), theme.getId()));
+            return reservationService.createAll(request);
+        });
+
+        assertAll(
+                () -> assertThat(response.results())
+                        .extracting(ReservationBatchItemResponse::created)
+                        .containsExactly(false, true),
+                () -> assertThat(findAllReservations()).hasSize(1)
+        );
+    }
+
     @DisplayName("모든 예약을 조회한다.")
     @Test
     void shouldReturnReservationResponsesWhenReservationsExist() {
         saveReservation();
-        List<ReservationResponse> reservationResponses = reservationService.findAll();
-        assertThat(reservationResponses).hasSize(1);
+        ReservationSearchRequest request = new ReservationSearchRequest(null, null, null, null, null, null);
+        ReservationPageResponse response = reservationService.findAll(request);
+        assertAll(
+                () -> assertThat(response.reservations()).hasSize(1),
+                () -> assertThat(response.nextCursor()).isNull()
+        );
     }
 
     @DisplayName("예약 삭제 요청시 예약이 존재하면 예약을 삭제한다.")
@@ -127,7 +338,7 @@ class ReservationServiceTest {
         Reservation reservation = saveReservation();
         reservationService.deleteById(reservation.getId());
 
-        List<Reservation> reservations = reservationRepository.findAll();
+        List<Reservation> reservations = findAllReservations();
         assertThat(reservations).isEmpty();
     }
 
@@ -145,4 +356,10 @@ class ReservationServiceTest {
         Reservation reservation = new Reservation(new PlayerName("test"), LocalDate.of(2024, 1, 1), time, theme);
         return reservationRepository.create(reservation);
     }
+
+    private List<Reservation> findAllReservations() {
+        List<Reservation> reservations = new ArrayList<>();
+        reservationRepository.scanAll(reservations::add);
+        return reservations;
+    }
 }
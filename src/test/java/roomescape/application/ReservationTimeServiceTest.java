@@ -2,6 +2,7 @@ package roomescape.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -9,7 +10,11 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import roomescape.application.dto.request.ReservationRequest;
 import roomescape.application.dto.request.ReservationTimeRequest;
+import roomescape.application.dto.response.AvailabilityRangeResponse;
+import roomescape.application.dto.response.AvailableTimeResponse;
+import roomescape.application.dto.response.DailyAvailabilityResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
 import roomescape.domain.PlayerName;
 import roomescape.domain.Reservation;
@@ -35,6 +40,9 @@ class ReservationTimeServiceTest {
     @Autowired
     private ReservationRepository reservationRepository;
 
+    @Autowired
+    private ReservationService reservationService;
+
     @DisplayName("예약 시간을 생성한다.")
     @Test
     void shouldReturnReservationTimeResponseWhenCreateReservationTime() {
@@ -93,6 +101,111 @@ class ReservationTimeServiceTest {
                 .hasMessage("존재하지 않는 예약 시간입니다.");
     }
 
+    @DisplayName("예약을 생성하고 삭제하면 예약 가능 시간에 즉시 반영된다.")
+    @Test
+    void shouldReflectReservationChangesWhenFindAvailableTimes() {
+        ReservationTime time = createTime(10, 0);
+        Theme theme = themeRepository.create(new Theme(new ThemeName("테마1"), "테마1 설명", "url"));
+        LocalDate date = LocalDate.parse("2000-01-02");
+        assertThat(reservationTimeService.findAvailableTimes(date, theme.getId()))
+                .extracting(AvailableTimeResponse::isBooked)
+                .containsExactly(false);
+
+        long reservationId = reservationService.create(
+                new ReservationRequest("오리", date.toString(), time.getId(), theme.getId())
+        ).id();
+        assertThat(reservationTimeService.findAvailableTimes(date, theme.getId()))
+                .extracting(AvailableTimeResponse::isBooked)
+                .containsExactly(true);
+
+        reservationService.deleteById(reservationId);
+        assertThat(reservationTimeService.findAvailableTimes(date, theme.getId()))
+                .extracting(AvailableTimeResponse::isBooked)
+                .containsExactly(false);
+    }
+
+    @DisplayName("예약 시간을 추가하면 예약 가능 시간에 즉시 반영된다.")
+    @Test
+    void shouldReflectNewTimeWhenFindAvailableTimes() {
+        Theme theme = themeRepository.create(new Theme(new ThemeName("테마1"), "테마1 설명", "url"));
+        LocalDate date = LocalDate.parse("2000-01-02");
+        assertThat(reservationTimeService.findAvailableTimes(date, theme.getId())).isEmpty();
+
+        reservationTimeService.create(new ReservationTimeRequest("10:00"));
+
+        assertThat(reservationTimeService.findAvailableTimes(date, theme.getId())).hasSize(1);
+    }
+
+    @DisplayName("기간별 예약 가능 시간을 조회하면 날짜마다 예약된 시간 위치를 비트마스크로 반환한다.")
+    @Test
+    void shouldReturnBookedBitmaskPerDayWhenFindAvailabilityRange() {
+        ReservationTime firstTime = createTime(10, 0);
+        ReservationTime secondTime = createTime(11, 0);
+        Theme theme = themeRepository.create(new Theme(new ThemeName("테마1"), "테마1 설명", "url"));
+        LocalDate from = LocalDate.parse("2024-01-01");
+        reservationRepository.create(new Reservation(new PlayerName("오리"), from.plusDays(1), secondTime, theme));
+
+        AvailabilityRangeResponse response = reservationTimeService.findAvailabilityRange(
+                theme.getId(), from, from.plusDays(2)
+        );
+
+        assertAll(
+                () -> assertThat(response.times()).extracting(ReservationTimeResponse::id)
+                        .containsExactly(firstTime.getId(), secondTime.getId()),
+                () -> assertThat(response.days()).containsExactly(
+                        new DailyAvailabilityResponse(from, "0", 2),
+                        new DailyAvailabilityResponse(from.plusDays(1), "2", 1),
+                        new DailyAvailabilityResponse(from.plusDays(2), "0", 2)
+                )
+        );
+    }
+
+    @DisplayName("기간별 예약 가능 시간을 조회한 뒤 생성한 예약이 즉시 반영된다.")
+    @Test
+    void shouldReflectReservationChangesWhenFindAvailabilityRange() {
+        ReservationTime time = createTime(10, 0);
+        Theme theme = themeRepository.create(new Theme(new ThemeName("테마1"), "테마1 설명", "url"));
+        LocalDate date = LocalDate.parse("2000-01-02");
+        reservationTimeService.findAvailabilityRange(theme.getId(), date, date.plusDays(6));
+
+        reservationService.create(new ReservationRequest("오리", date.toString(), time.getId(), theme.getId()));
+
+        assertThat(reservationTimeService.findAvailabilityRange(theme.getId(), date, date).days())
+                .containsExactly(new DailyAvailabilityResponse(date, "1", 0));
+    }
+
+    @DisplayName("조회 시작 날짜가 종료 날짜보다 늦으면 예외가 발생한다.")
+    @Test
+    void shouldThrowExceptionWhenFromIsAfterTo() {
+        LocalDate date = LocalDate.parse("2024-01-01");
+        assertThatCode(() -> reservationTimeService.findAvailabilityRange(1L, date.plusDays(1), date))
+                .isInstanceOf(RoomescapeException.class)
+                .hasMessage("조회 시작 날짜는 종료 날짜보다 늦을 수 없습니다.");
+    }
+
+    @DisplayName("조회 기간이 31일을 넘으면 예외가 발생한다.")
+    @Test
+    void shouldThrowExceptionWhenRangeIsTooLong() {
+        LocalDate date = LocalDate.parse("2024-01-01");
+        assertThatCode(() -> reservationTimeService.findAvailabilityRange(1L, date, date.plusDays(31)))
+                .isInstanceOf(RoomescapeException.class)
+                .hasMessage("조회 기간은 최대 31일입니다.");
+    }
+
+    @DisplayName("존재하지 않는 테마의 예약 가능 시간을 조회하면 예외가 발생한다.")
+    @Test
+    void shouldThrowExceptionWhenFindAvailableTimesOfUnknownTheme() {
+        LocalDate date = LocalDate.parse("2000-01-02");
+        assertAll(
+                () -> assertThatCode(() -> reservationTimeService.findAvailableTimes(date, 99L))
+                        .isInstanceOf(RoomescapeException.class)
+                        .hasMessage("존재하지 않는 테마 입니다."),
+                () -> assertThatCode(() -> reservationTimeService.findAvailabilityRange(99L, date, date))
+                        .isInstanceOf(RoomescapeException.class)
+                        .hasMessage("존재하지 않는 테마 입니다.")
+        );
+    }
+
     private ReservationTime createTime(int hour, int minute) {
         LocalTime startAt = LocalTime.of(hour, minute);
         return reservationTimeRepository.create(new ReservationTime(startAt));
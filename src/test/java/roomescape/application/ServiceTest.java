@@ -6,7 +6,10 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestExecutionListeners.MergeMode;
 import org.springframework.test.context.jdbc.Sql;
+import roomescape.config.InMemoryStateResetListener;
 import roomescape.config.TestConfig;
 
 @Target(ElementType.TYPE)
@@ -16,5 +19,6 @@ import roomescape.config.TestConfig;
         webEnvironment = SpringBootTest.WebEnvironment.NONE
 )
 @Sql("/truncate.sql")
+@TestExecutionListeners(value = InMemoryStateResetListener.class, mergeMode = MergeMode.MERGE_WITH_DEFAULTS)
 public @interface ServiceTest {
 }
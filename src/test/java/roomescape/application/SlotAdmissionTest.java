@@ -0,0 +1,87 @@
+package roomescape.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import roomescape.domain.ReservationSlot;
+
+class SlotAdmissionTest {
+    private static final ReservationSlot SLOT = new ReservationSlot(LocalDate.of(2024, 12, 25), 1L, 1L);
+
+    private final SlotAdmission slotAdmission = new SlotAdmission(16);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @DisplayName("같은 슬롯을 처리 중인 요청이 있으면 거절하고, 다른 슬롯은 허용한다.")
+    @Test
+    void shouldRejectSameSlotWhileInFlight() {
+        boolean first = slotAdmission.tryAcquire(SLOT);
+        boolean sameSlot = slotAdmission.tryAcquire(SLOT);
+        boolean allOtherSlotsAdmitted = LongStream.rangeClosed(2, 100)
+                .mapToObj(themeId -> new ReservationSlot(SLOT.date(), SLOT.timeId(), themeId))
+                .allMatch(slotAdmission::tryAcquire);
+
+        assertAll(
+                () -> assertThat(first).isTrue(),
+                () -> assertThat(sameSlot).isFalse(),
+                () -> assertThat(allOtherSlotsAdmitted).isTrue()
+        );
+    }
+
+    @DisplayName("트랜잭션이 끝나면 슬롯을 다시 허용한다.")
+    @Test
+    void shouldAdmitSlotAgainAfterTransactionCompletion() {
+        slotAdmission.tryAcquire(SLOT);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(
+                        TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(slotAdmission.tryAcquire(SLOT)).isTrue();
+    }
+
+    @DisplayName("먼저 선점한 요청이 롤백되면 그동안 거절된 요청은 빈 슬롯인데도 거절된 채로 남는다.")
+    @Test
+    void shouldRejectContenderEvenIfHolderRollsBack() {
+        slotAdmission.tryAcquire(SLOT);
+        boolean contender = slotAdmission.tryAcquire(SLOT);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(
+                        TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertAll(
+                () -> assertThat(contender).isFalse(),
+                () -> assertThat(slotAdmission.tryAcquire(SLOT)).isTrue()
+        );
+    }
+
+    @DisplayName("트랜잭션 동기화가 없으면 슬롯을 선점하지 않고 예외가 발생한다.")
+    @Test
+    void shouldThrowExceptionWhenSynchronizationInactive() {
+        TransactionSynchronizationManager.clearSynchronization();
+        try {
+            assertThatThrownBy(() -> slotAdmission.tryAcquire(SLOT))
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+    }
+}
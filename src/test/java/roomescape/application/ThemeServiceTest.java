@@ -2,7 +2,10 @@ package roomescape.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +13,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
 import roomescape.application.dto.request.ThemeRequest;
 import roomescape.application.dto.response.ThemeResponse;
+import roomescape.domain.PlayerName;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationRepository;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.ReservationTimeRepository;
 import roomescape.domain.Theme;
 import roomescape.domain.ThemeName;
 import roomescape.domain.ThemeRepository;
@@ -23,6 +31,18 @@ class ThemeServiceTest {
     @Autowired
     private ThemeRepository themeRepository;
 
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationTimeService reservationTimeService;
+
+    @Autowired
+    private ReservationService reservationService;
+
     @DisplayName("테마를 생성한다.")
     @Test
     void shouldReturnCreatedTheme() {
@@ -32,6 +52,71 @@ class ThemeServiceTest {
         assertThat(themes).hasSize(1);
     }
 
+    @DisplayName("테마를 생성하거나 삭제하면 카탈로그 버전이 바뀐다.")
+    @Test
+    void shouldChangeCatalogTagWhenThemeCreatedAndDeleted() {
+        String initialTag = themeService.getCatalogTag();
+        ThemeResponse theme = themeService.create(new ThemeRequest("테마", "테마 설명", "url"));
+        String createdTag = themeService.getCatalogTag();
+        themeService.deleteById(theme.id());
+        String deletedTag = themeService.getCatalogTag();
+
+        assertAll(
+                () -> assertThat(createdTag).isNotEqualTo(initialTag),
+                () -> assertThat(deletedTag).isNotEqualTo(createdTag)
+        );
+    }
+
+    @DisplayName("카탈로그 버전은 저장된 데이터로 정해져 인스턴스가 달라도 같고, 테마와 시간 버전은 따로 바뀐다.")
+    @Test
+    void shouldDeriveCatalogTagsFromPersistedState() {
+        String timesTag = reservationTimeService.getCatalogTag();
+        themeService.create(new ThemeRequest("테마", "테마 설명", "url"));
+        CatalogVersion otherInstance = new CatalogVersion(themeRepository, reservationTimeRepository);
+
+        assertAll(
+                () -> assertThat(otherInstance.getThemesTag()).isEqualTo(themeService.getCatalogTag()),
+                () -> assertThat(reservationTimeService.getCatalogTag()).isEqualTo(timesTag)
+        );
+    }
+
+    @DisplayName("지난 예약이 삭제되면 인기 테마 버전이 바뀐다.")
+    @Test
+    void shouldChangePopularThemesTagWhenPastReservationDeleted() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("테마"), "테마 설명", "url"));
+        Reservation reservation = reservationRepository.create(
+                new Reservation(new PlayerName("test"), LocalDate.of(1999, 12, 30), time, theme)
+        );
+        String bookedTag = themeService.getPopularThemesTag();
+
+        reservationService.deleteById(reservation.getId());
+
+        assertThat(themeService.getPopularThemesTag()).isNotEqualTo(bookedTag);
+    }
+
+    @DisplayName("예약 수의 합이 같아도 인기 테마 순위가 바뀌면 인기 테마 버전이 바뀐다.")
+    @Test
+    void shouldChangePopularThemesTagWhenRankingChangesWithSameTotal() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme first = themeRepository.create(new Theme(new ThemeName("테마1"), "테마 설명", "url"));
+        Theme second = themeRepository.create(new Theme(new ThemeName("테마2"), "테마 설명", "url"));
+        Reservation cancelled = createPastReservation(LocalDate.of(1999, 12, 30), time, first);
+        createPastReservation(LocalDate.of(1999, 12, 29), time, first);
+        createPastReservation(LocalDate.of(1999, 12, 30), time, second);
+        String rankedTag = themeService.getPopularThemesTag();
+
+        createPastReservation(LocalDate.of(1999, 12, 29), time, second);
+        reservationService.deleteById(cancelled.getId());
+
+        assertAll(
+                () -> assertThat(themeService.findPopularThemes()).extracting(ThemeResponse::id)
+                        .containsExactly(second.getId(), first.getId()),
+                () -> assertThat(themeService.getPopularThemesTag()).isNotEqualTo(rankedTag)
+        );
+    }
+
+
     @DisplayName("모든 테마를 조회한다.")
     @Test
     void shouldReturnAllThemes() {
@@ -66,6 +151,10 @@ class ThemeServiceTest {
                 .hasMessage("연관된 예약이 존재하여 삭제할 수 없습니다.");
     }
 
+    private Reservation createPastReservation(LocalDate date, ReservationTime time, Theme theme) {
+        return reservationRepository.create(new Reservation(new PlayerName("test"), date, time, theme));
+    }
+
     private Theme createTheme() {
         return themeRepository.create(new Theme(new ThemeName("테마"), "테마 설명", "url"));
     }
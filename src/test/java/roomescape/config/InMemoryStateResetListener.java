@@ -0,0 +1,21 @@
+package roomescape.config;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+import roomescape.application.AvailabilityIndex;
+import roomescape.application.CatalogVersion;
+import roomescape.application.IdempotencyService;
+import roomescape.infrastructure.cache.CatalogCache;
+
+public class InMemoryStateResetListener extends AbstractTestExecutionListener {
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        ApplicationContext context = testContext.getApplicationContext();
+        context.getBeanProvider(AvailabilityIndex.class).ifAvailable(AvailabilityIndex::clear);
+        context.getBeanProvider(IdempotencyService.class).ifAvailable(IdempotencyService::clear);
+        context.getBeanProvider(CatalogVersion.class).ifAvailable(CatalogVersion::clear);
+        context.getBeansOfType(CatalogCache.class).values().forEach(CatalogCache::clear);
+    }
+}
@@ -0,0 +1,74 @@
+package roomescape.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import roomescape.domain.IdempotentResponse;
+
+@JdbcTest
+@Import(JdbcIdempotentResponseRepository.class)
+class JdbcIdempotentResponseRepositoryTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    @Autowired
+    private JdbcIdempotentResponseRepository jdbcIdempotentResponseRepository;
+
+    @DisplayName("저장한 응답을 멱등 키로 조회한다.")
+    @Test
+    void shouldFindSavedResponseByKey() {
+        IdempotentResponse response = new IdempotentResponse("key", "hash", "{\"id\":1}", CREATED_AT);
+        jdbcIdempotentResponseRepository.save(response);
+
+        assertThat(jdbcIdempotentResponseRepository.findByKey("key")).contains(response);
+    }
+
+    @DisplayName("이미 저장된 멱등 키를 다시 저장하면 예외가 발생한다.")
+    @Test
+    void shouldThrowExceptionWhenSaveDuplicatedKey() {
+        jdbcIdempotentResponseRepository.save(new IdempotentResponse("key", "hash", "{}", CREATED_AT));
+
+        assertThatThrownBy(() -> jdbcIdempotentResponseRepository.save(
+                new IdempotentResponse("key", "other", "{}", CREATED_AT)))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @DisplayName("기준 시각보다 먼저 저장된 응답을 삭제한다.")
+    @Test
+    void shouldDeleteResponsesCreatedBefore() {
+        jdbcIdempotentResponseRepository.save(new IdempotentResponse("old", "hash", "{}", CREATED_AT));
+        jdbcIdempotentResponseRepository.save(new IdempotentResponse("new", "hash", "{}", CREATED_AT.plusDays(1)));
+
+        int deletedCount = jdbcIdempotentResponseRepository.deleteCreatedBefore(CREATED_AT.plusHours(1));
+
+        assertAll(
+                () -> assertThat(deletedCount).isOne(),
+                () -> assertThat(jdbcIdempotentResponseRepository.findByKey("old")).isEmpty(),
+                () -> assertThat(jdbcIdempotentResponseRepository.findByKey("new")).isPresent()
+        );
+    }
+
+    @DisplayName("멱등 키의 응답이 기준 시각보다 먼저 저장되었을 때만 삭제한다.")
+    @Test
+    void shouldDeleteResponseOfKeyOnlyWhenCreatedBefore() {
+        jdbcIdempotentResponseRepository.save(new IdempotentResponse("old", "hash", "{}", CREATED_AT));
+        jdbcIdempotentResponseRepository.save(new IdempotentResponse("other", "hash", "{}", CREATED_AT));
+
+        int notExpiredCount = jdbcIdempotentResponseRepository.deleteByKeyCreatedBefore("old", CREATED_AT);
+        int deletedCount = jdbcIdempotentResponseRepository.deleteByKeyCreatedBefore("old", CREATED_AT.plusHours(1));
+
+        assertAll(
+                () -> assertThat(notExpiredCount).isZero(),
+                () -> assertThat(deletedCount).isOne(),
+                () -> assertThat(jdbcIdempotentResponseRepository.findByKey("old")).isEmpty(),
+                () -> assertThat(jdbcIdempotentResponseRepository.findByKey("other")).isPresent()
+        );
+    }
+}
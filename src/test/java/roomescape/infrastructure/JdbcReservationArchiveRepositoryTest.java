@@ -0,0 +1,106 @@
+package roomescape.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationFilter;
+import roomescape.domain.ReservationPage;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.ReservationTimeRepository;
+import roomescape.domain.Theme;
+import roomescape.domain.ThemeName;
+import roomescape.domain.ThemeRepository;
+
+@JdbcTest
+@Import(value = {
+        JdbcReservationArchiveRepository.class, JdbcReservationTimeRepository.class, JdbcThemeRepository.class
+})
+class JdbcReservationArchiveRepositoryTest {
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcReservationArchiveRepository jdbcReservationArchiveRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @DisplayName("기준 날짜 이전의 예약을 최대 개수만큼 보관 테이블로 옮긴다.")
+    @Test
+    void shouldMoveReservationsBeforeDateUpToLimit() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("theme1"), "desc", "url"));
+        insertReservation(DATE.minusDays(2), time, theme);
+        insertReservation(DATE.minusDays(1), time, theme);
+        insertReservation(DATE, time, theme);
+
+        int firstChunk = jdbcReservationArchiveRepository.archiveDateBefore(DATE, 1);
+        int secondChunk = jdbcReservationArchiveRepository.archiveDateBefore(DATE, 1);
+        int thirdChunk = jdbcReservationArchiveRepository.archiveDateBefore(DATE, 1);
+
+        assertAll(
+                () -> assertThat(List.of(firstChunk, secondChunk, thirdChunk)).containsExactly(1, 1, 0),
+                () -> assertThat(countRows("reservation")).isOne(),
+                () -> assertThat(countRows("reservation_archive")).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("보관할 예약은 id 순서로 고른다.")
+    @Test
+    void shouldArchiveReservationsInIdOrder() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("theme1"), "desc", "url"));
+        insertReservation(DATE.minusDays(1), time, theme);
+        insertReservation(DATE.minusDays(2), time, theme);
+        Long firstId = jdbcTemplate.queryForObject("select min(id) from reservation", Long.class);
+
+        jdbcReservationArchiveRepository.archiveDateBefore(DATE, 1);
+
+        assertThat(jdbcTemplate.queryForObject("select id from reservation_archive", Long.class)).isEqualTo(firstId);
+    }
+
+    @DisplayName("보관된 예약은 테마와 시간이 삭제되어도 당시 정보로 조회된다.")
+    @Test
+    void shouldFindArchivedReservationAfterThemeAndTimeDeleted() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("theme1"), "desc", "url"));
+        insertReservation(DATE.minusDays(1), time, theme);
+        jdbcReservationArchiveRepository.archiveDateBefore(DATE, 10);
+        themeRepository.deleteById(theme.getId());
+        reservationTimeRepository.deleteById(time.getId());
+
+        ReservationPage page = jdbcReservationArchiveRepository.findPage(ReservationFilter.none(), null, 10);
+
+        Reservation reservation = page.reservations().get(0);
+        assertAll(
+                () -> assertThat(page.reservations()).hasSize(1),
+                () -> assertThat(reservation.getTheme().getName()).isEqualTo("theme1"),
+                () -> assertThat(reservation.getTime().getStartAt()).isEqualTo(LocalTime.of(10, 0)),
+                () -> assertThat(page.nextCursor()).isNull()
+        );
+    }
+
+    private void insertReservation(LocalDate date, ReservationTime time, Theme theme) {
+        jdbcTemplate.update("insert into reservation (name, date, time_id, theme_id) values (?, ?, ?, ?)",
+                "test", date, time.getId(), theme.getId());
+    }
+
+    private int countRows(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+    }
+}
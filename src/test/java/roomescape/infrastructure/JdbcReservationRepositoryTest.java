@@ -1,20 +1,28 @@
 package roomescape.infrastructure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
 import roomescape.domain.PlayerName;
 import roomescape.domain.Reservation;
+import roomescape.domain.ReservationFilter;
+import roomescape.domain.ReservationPage;
+import roomescape.domain.ReservationSlot;
 import roomescape.domain.ReservationTime;
 import roomescape.domain.ReservationTimeRepository;
 import roomescape.domain.Theme;
@@ -51,12 +59,61 @@ class JdbcReservationRepositoryTest {
         assertThat(reservation).isEmpty();
     }
 
-    @DisplayName("존재하는 모든 예약을 반환한다.")
+    @DisplayName("한 번의 조회에서 같은 테마와 시간을 가진 예약은 같은 테마, 시간 객체를 공유한다.")
     @Test
-    void shouldReturnAllReservationsWhenFindAll() {
-        createReservation();
-        List<Reservation> reservations = jdbcReservationRepository.findAll();
-        assertThat(reservations).hasSize(1);
+    void shouldShareThemeAndTimeInstancesWhenFindPage() {
+        Reservation reservation = createReservation();
+        jdbcTemplate.update("insert into reservation (id, name, date, time_id, theme_id) values (?, ?, ?, ?, ?)",
+                2L, "test2", reservation.getDate().plusDays(1), reservation.getTime().getId(),
+                reservation.getTheme().getId());
+
+        List<Reservation> reservations = jdbcReservationRepository.findPage(ReservationFilter.none(), null, 10)
+                .reservations();
+
+        assertAll(
+                () -> assertThat(reservations).hasSize(2),
+                () -> assertThat(reservations.get(0).getTheme()).isSameAs(reservations.get(1).getTheme()),
+                () -> assertThat(reservations.get(0).getTime()).isSameAs(reservations.get(1).getTime())
+        );
+    }
+
+    @DisplayName("커서 이후의 예약을 페이지 크기만큼 조회하고 다음 커서를 반환한다.")
+    @Test
+    @Sql("/insert-reservations.sql")
+    void shouldReturnPageAfterCursor() {
+        ReservationPage firstPage = jdbcReservationRepository.findPage(ReservationFilter.none(), null, 5);
+        ReservationPage lastPage = jdbcReservationRepository.findPage(ReservationFilter.none(), 10L, 5);
+
+        assertAll(
+                () -> assertThat(firstPage.reservations()).extracting(Reservation::getId)
+                        .containsExactly(1L, 2L, 3L, 4L, 5L),
+                () -> assertThat(firstPage.nextCursor()).isEqualTo(5L),
+                () -> assertThat(lastPage.reservations()).extracting(Reservation::getId)
+                        .containsExactly(11L, 12L, 13L, 14L),
+                () -> assertThat(lastPage.nextCursor()).isNull()
+        );
+    }
+
+    @DisplayName("테마, 기간, 예약자명으로 예약을 필터링한다.")
+    @Test
+    @Sql("/insert-reservations.sql")
+    void shouldReturnFilteredPage() {
+        ReservationFilter filter = new ReservationFilter(
+                4L, LocalDate.of(2024, 12, 28), LocalDate.of(2024, 12, 31), "수달"
+        );
+        ReservationPage page = jdbcReservationRepository.findPage(filter, null, 10);
+
+        assertThat(page.reservations()).extracting(Reservation::getId)
+                .containsExactly(7L, 8L);
+    }
+
+    @DisplayName("모든 예약을 id 순서로 순회한다.")
+    @Test
+    @Sql("/insert-reservations.sql")
+    void shouldVisitAllReservationsInIdOrderWhenScanAll() {
+        List<Long> visitedIds = new ArrayList<>();
+        jdbcReservationRepository.scanAll(reservation -> visitedIds.add(reservation.getId()));
+        assertThat(visitedIds).hasSize(14).isSorted();
     }
 
     @DisplayName("예약을 저장하면 id를 가진 예약을 저장 후 반환한다.")
@@ -78,6 +135,65 @@ class JdbcReservationRepositoryTest {
         );
     }
 
+    @DisplayName("여러 예약을 한 번에 저장하면 각각 id를 가진 예약을 반환하고 일별 예약 수에 반영된다.")
+    @Test
+    void shouldReturnReservationsWithIdWhenReservationsSaveAll() {
+        ReservationTime reservationTime = reservationTimeRepository.create(new ReservationTime(LocalTime.of(12, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("theme1"), "desc", "url"));
+        LocalDate date = LocalDate.of(2024, 12, 25);
+        List<Reservation> reservations = List.of(
+                new Reservation(new PlayerName("test1"), date, reservationTime, theme),
+                new Reservation(new PlayerName("test2"), date.plusDays(1), reservationTime, theme),
+                new Reservation(new PlayerName("test3"), date.plusDays(2), reservationTime, theme)
+        );
+
+        List<Reservation> savedReservations = jdbcReservationRepository.createAll(reservations);
+
+        assertAll(
+                () -> assertThat(savedReservations).extracting(Reservation::getId)
+                        .doesNotContainNull()
+                        .doesNotHaveDuplicates(),
+                () -> assertThat(savedReservations).extracting(Reservation::getName)
+                        .containsExactly("test1", "test2", "test3"),
+                () -> assertThat(getTotalRowCount()).isEqualTo(3),
+                () -> assertThat(getDailyStatsCount(date, theme.getId())).isOne()
+        );
+    }
+
+    @DisplayName("주어진 슬롯 중 이미 예약된 슬롯만 조회한다.")
+    @Test
+    void shouldReturnExistingSlotsWhenSlotsGiven() {
+        Reservation reservation = createReservation();
+        ReservationSlot bookedSlot = reservation.getSlot();
+        ReservationSlot freeSlot = new ReservationSlot(
+                reservation.getDate().plusDays(1), bookedSlot.timeId(), bookedSlot.themeId()
+        );
+
+        Set<ReservationSlot> existingSlots = jdbcReservationRepository.findExistingSlots(List.of(bookedSlot, freeSlot));
+
+        assertThat(existingSlots).containsExactly(bookedSlot);
+    }
+
+    @DisplayName("테마와 기간으로 예약된 슬롯을 조회한다.")
+    @Test
+    void shouldReturnSlotsWhenThemeIdAndDateBetweenGiven() {
+        Reservation reservation = createReservation();
+        LocalDate date = reservation.getDate();
+        long themeId = reservation.getTheme().getId();
+
+        List<ReservationSlot> slots = jdbcReservationRepository.findSlotsByThemeIdAndDateBetween(
+                themeId, date.minusDays(1), date
+        );
+        List<ReservationSlot> otherDaySlots = jdbcReservationRepository.findSlotsByThemeIdAndDateBetween(
+                themeId, date.plusDays(1), date.plusDays(7)
+        );
+
+        assertAll(
+                () -> assertThat(slots).containsExactly(reservation.getSlot()),
+                () -> assertThat(otherDaySlots).isEmpty()
+        );
+    }
+
     @DisplayName("id로 예약을 삭제한다.")
     @Test
     void shouldDeleteReservationWhenReservationIdExist() {
@@ -87,6 +203,26 @@ class JdbcReservationRepositoryTest {
         assertThat(totalRowCount).isZero();
     }
 
+    @DisplayName("예약을 저장하고 삭제하면 테마 일별 예약 수에 반영된다.")
+    @Test
+    void shouldAdjustDailyStatsWhenReservationCreatedAndDeleted() {
+        ReservationTime reservationTime = reservationTimeRepository.create(new ReservationTime(LocalTime.of(12, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("theme1"), "desc", "url"));
+        LocalDate date = LocalDate.of(2024, 12, 25);
+        Reservation saved = jdbcReservationRepository.create(
+                new Reservation(new PlayerName("test"), date, reservationTime, theme)
+        );
+        long countAfterCreate = getDailyStatsCount(date, theme.getId());
+
+        jdbcReservationRepository.deleteById(saved.getId());
+        long countAfterDelete = getDailyStatsCount(date, theme.getId());
+
+        assertAll(
+                () -> assertThat(countAfterCreate).isOne(),
+                () -> assertThat(countAfterDelete).isZero()
+        );
+    }
+
     @DisplayName("예약 시간 id를 가진 예약의 개수를 조회한다.")
     @Test
     void shouldReturnCountOfReservationWhenReservationTimeUsed() {
@@ -95,15 +231,29 @@ class JdbcReservationRepositoryTest {
         assertThat(exists).isTrue();
     }
 
-    @DisplayName("날짜, 시간으로 저장된 예약이 있는지 확인한다.")
+    @DisplayName("날짜와 테마로 예약된 시간 id를 조회한다.")
     @Test
-    void shouldReturnIsExistReservationWhenReservationsNameAndDateAndTimeIsSame() {
+    void shouldReturnReservedTimeIdsWhenDateAndThemeGiven() {
         Reservation reservation = createReservation();
-        ReservationTime time = reservation.getTime();
-        Theme theme = reservation.getTheme();
+        List<Long> timeIds = jdbcReservationRepository.findTimeIdsByDateAndThemeId(
+                reservation.getDate(), reservation.getTheme().getId()
+        );
+        assertThat(timeIds).containsExactly(reservation.getTime().getId());
+    }
 
-        boolean exists = jdbcReservationRepository.existsBy(reservation.getDate(), time.getId(), theme.getId());
-        assertThat(exists).isTrue();
+    @DisplayName("같은 날짜, 시간, 테마로 예약을 저장하면 예외가 발생한다.")
+    @Test
+    void shouldThrowDuplicateKeyExceptionWhenSameSlotSave() {
+        Reservation reservation = createReservation();
+        Reservation duplicated = new Reservation(
+                new PlayerName("other"),
+                reservation.getDate(),
+                reservation.getTime(),
+                reservation.getTheme()
+        );
+
+        assertThatThrownBy(() -> jdbcReservationRepository.create(duplicated))
+                .isInstanceOf(DuplicateKeyException.class);
     }
 
     private Reservation createReservation() {
@@ -115,6 +265,11 @@ class JdbcReservationRepositoryTest {
         return new Reservation(1L, new PlayerName("test"), date, reservationTime, theme);
     }
 
+    private long getDailyStatsCount(LocalDate date, long themeId) {
+        String sql = "select reservation_count from theme_daily_stats where date = ? and theme_id = ?";
+        return jdbcTemplate.queryForObject(sql, Long.class, date, themeId);
+    }
+
     private int getTotalRowCount() {
         String sql = "select count(*) from reservation";
         return jdbcTemplate.queryForObject(sql, Integer.class);
@@ -0,0 +1,66 @@
+package roomescape.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import roomescape.config.TestConfig;
+import roomescape.domain.ThemeRepository;
+
+@Tag("large")
+@SpringBootTest(
+        classes = TestConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:file:./build/large-test/popular-themes",
+                "spring.sql.init.mode=always"
+        }
+)
+@Sql({"/truncate.sql", "/insert-million-reservations.sql"})
+class JdbcThemeRepositoryLargeTest {
+    private static final String LEGACY_POPULAR_THEME_COUNTS_SQL = """
+            select count(r.id)
+            from theme as t left join reservation as r on t.id = r.theme_id
+            where r.date between ? and ?
+            group by t.id
+            order by count(r.id) desc
+            limit ?
+            """;
+    private static final String THEME_RESERVATION_COUNT_SQL = """
+            select count(*) from reservation where theme_id = ? and date between ? and ?
+            """;
+    private static final LocalDate START_DATE = LocalDate.of(2025, 3, 1);
+    private static final LocalDate END_DATE = START_DATE.plusDays(6);
+    private static final int LIMIT = 10;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("백만 건의 예약에서 일별 통계로 조회한 인기 테마는 예약 테이블을 집계한 순위와 같다.")
+    @Test
+    void shouldFindSamePopularThemesWithDailyStats() {
+        themeRepository.backfillDailyStats();
+
+        List<Long> legacyCounts = jdbcTemplate.queryForList(
+                LEGACY_POPULAR_THEME_COUNTS_SQL, Long.class, START_DATE, END_DATE, LIMIT
+        );
+        List<Long> rollupCounts = themeRepository.findPopularThemesDateBetween(START_DATE, END_DATE, LIMIT)
+                .stream()
+                .map(theme -> jdbcTemplate.queryForObject(
+                        THEME_RESERVATION_COUNT_SQL, Long.class, theme.getId(), START_DATE, END_DATE
+                ))
+                .toList();
+
+        assertThat(rollupCounts).isNotEmpty().isEqualTo(legacyCounts);
+    }
+}
@@ -1,6 +1,7 @@
 package roomescape.infrastructure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -12,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
+import roomescape.domain.TableVersion;
 import roomescape.domain.Theme;
 import roomescape.domain.ThemeName;
 import roomescape.domain.ThemeRepository;
@@ -53,6 +55,18 @@ class JdbcThemeRepositoryTest {
         assertThat(foundTheme).isPresent();
     }
 
+    @DisplayName("여러 id로 존재하는 테마만 조회한다.")
+    @Test
+    void shouldFindThemesByIds() {
+        Theme first = themeRepository.create(new Theme(new ThemeName("테마1"), "테마 설명", "url"));
+        Theme second = themeRepository.create(new Theme(new ThemeName("테마2"), "테마 설명", "url"));
+        themeRepository.create(new Theme(new ThemeName("테마3"), "테마 설명", "url"));
+
+        List<Theme> themes = themeRepository.findAllByIds(List.of(first.getId(), second.getId(), 99L));
+
+        assertThat(themes).extracting(Theme::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
     @DisplayName("id로 테마를 삭제한다.")
     @Test
     void shouldDeleteThemeById() {
@@ -80,6 +94,55 @@ class JdbcThemeRepositoryTest {
         assertThat(themeIds).containsExactly(4L, 3L, 2L);
     }
 
+    @DisplayName("예약 수가 같은 인기 테마는 id 순서로 정렬한다.")
+    @Test
+    void shouldOrderPopularThemesWithSameCountById() {
+        LocalDate date = LocalDate.of(2024, 12, 24);
+        for (long id : List.of(9L, 2L, 5L)) {
+            jdbcTemplate.update("insert into theme (id, name, description, thumbnail) values (?, ?, ?, ?)",
+                    id, "테마", "테마 설명", "url");
+            jdbcTemplate.update("insert into theme_daily_stats (date, theme_id, reservation_count) values (?, ?, ?)",
+                    date, id, 1);
+        }
+
+        List<Long> themeIds = themeRepository.findPopularThemesDateBetween(date, date, 3)
+                .stream()
+                .map(Theme::getId)
+                .toList();
+
+        assertThat(themeIds).containsExactly(2L, 5L, 9L);
+    }
+
+    @DisplayName("통계가 없는 날짜와 테마의 예약 수를 채운다.")
+    @Test
+    @Sql("/insert-reservations.sql")
+    void shouldBackfillMissingDailyStats() {
+        jdbcTemplate.update("delete from theme_daily_stats where theme_id = ?", 4L);
+
+        int filledCount = themeRepository.backfillDailyStats();
+
+        List<Long> themeIds = themeRepository.findPopularThemesDateBetween(
+                        LocalDate.of(2024, 12, 24), LocalDate.of(2024, 12, 28), 3)
+                .stream()
+                .map(Theme::getId)
+                .toList();
+        assertAll(
+                () -> assertThat(filledCount).isEqualTo(2),
+                () -> assertThat(themeIds).containsExactly(4L, 3L, 2L)
+        );
+    }
+
+    @DisplayName("테마 수와 가장 큰 id로 테이블 버전을 만든다.")
+    @Test
+    void shouldFindVersionFromRowCountAndMaxId() {
+        jdbcTemplate.update("insert into theme (id, name, description, thumbnail) values (?, ?, ?, ?)",
+                3L, "테마", "테마 설명", "url");
+        jdbcTemplate.update("insert into theme (id, name, description, thumbnail) values (?, ?, ?, ?)",
+                7L, "테마", "테마 설명", "url");
+
+        assertThat(themeRepository.findVersion()).isEqualTo(new TableVersion(2, 7));
+    }
+
     private int getTotalRowCount() {
         String sql = "select count(*) from theme";
         return jdbcTemplate.queryForObject(sql, Integer.class);
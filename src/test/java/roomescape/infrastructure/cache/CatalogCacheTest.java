@@ -0,0 +1,134 @@
+package roomescape.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.domain.TableVersion;
+
+class CatalogCacheTest {
+
+    @DisplayName("한 번 조회한 값은 다시 불러오지 않는다.")
+    @Test
+    void shouldReturnCachedValueWithoutLoading() {
+        CatalogCache<String> cache = new CatalogCache<>(2);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        cache.get(1L, id -> load(loadCount, id));
+        Optional<String> value = cache.get(1L, id -> load(loadCount, id));
+
+        CacheStats stats = cache.stats();
+        assertAll(
+                () -> assertThat(value).contains("value1"),
+                () -> assertThat(loadCount.get()).isOne(),
+                () -> assertThat(stats.hits()).isOne(),
+                () -> assertThat(stats.misses()).isOne()
+        );
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 값을 제거한다.")
+    @Test
+    void shouldEvictLeastRecentlyUsedValueWhenFull() {
+        CatalogCache<String> cache = new CatalogCache<>(2);
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.get(1L, id -> load(loadCount, id));
+        cache.get(2L, id -> load(loadCount, id));
+        cache.get(1L, id -> load(loadCount, id));
+
+        cache.get(3L, id -> load(loadCount, id));
+        cache.get(1L, id -> load(loadCount, id));
+        cache.get(2L, id -> load(loadCount, id));
+
+        CacheStats stats = cache.stats();
+        assertAll(
+                () -> assertThat(loadCount.get()).isEqualTo(4),
+                () -> assertThat(stats.evictions()).isEqualTo(2),
+                () -> assertThat(stats.size()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("존재하지 않는 값은 캐시하지 않는다.")
+    @Test
+    void shouldNotCacheEmptyValue() {
+        CatalogCache<String> cache = new CatalogCache<>(2);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        cache.get(1L, id -> {
+            loadCount.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.get(1L, id -> load(loadCount, id));
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("무효화하면 전체 목록과 개별 값을 다시 불러온다.")
+    @Test
+    void shouldReloadAfterInvalidateAll() {
+        CatalogCache<String> cache = new CatalogCache<>(2);
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.get(1L, id -> load(loadCount, id));
+        cache.getAll(() -> List.of("value1"));
+
+        cache.invalidateAll();
+        List<String> all = cache.getAll(() -> List.of("value1", "value2"));
+        cache.get(1L, id -> load(loadCount, id));
+
+        assertAll(
+                () -> assertThat(all).containsExactly("value1", "value2"),
+                () -> assertThat(loadCount.get()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("테이블 버전은 무효화되기 전까지 다시 불러오지 않는다.")
+    @Test
+    void shouldReloadVersionOnlyAfterInvalidateAll() {
+        CatalogCache<String> cache = new CatalogCache<>(2);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        cache.getVersion(() -> new TableVersion(loadCount.incrementAndGet(), 1));
+        TableVersion cached = cache.getVersion(() -> new TableVersion(loadCount.incrementAndGet(), 1));
+        cache.invalidateAll();
+        TableVersion reloaded = cache.getVersion(() -> new TableVersion(loadCount.incrementAndGet(), 1));
+
+        assertAll(
+                () -> assertThat(cached).isEqualTo(new TableVersion(1, 1)),
+                () -> assertThat(reloaded).isEqualTo(new TableVersion(2, 1))
+        );
+    }
+
+    @DisplayName("여러 id로 조회하면 캐시에 없는 id만 불러와 캐시한다.")
+    @Test
+    void shouldLoadOnlyMissingIdsWhenGetAllByIds() {
+        CatalogCache<String> cache = new CatalogCache<>(4);
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.get(1L, id -> load(loadCount, id));
+        List<Collection<Long>> requestedIds = new ArrayList<>();
+
+        List<String> first = cache.getAllByIds(List.of(1L, 2L, 3L), ids -> {
+            requestedIds.add(List.copyOf(ids));
+            return ids.stream().map(id -> "value" + id).toList();
+        }, value -> Long.parseLong(value.substring("value".length())));
+        List<String> second = cache.getAllByIds(List.of(2L, 3L), ids -> {
+            requestedIds.add(List.copyOf(ids));
+            return List.of();
+        }, value -> Long.parseLong(value.substring("value".length())));
+
+        assertAll(
+                () -> assertThat(first).containsExactlyInAnyOrder("value1", "value2", "value3"),
+                () -> assertThat(second).containsExactlyInAnyOrder("value2", "value3"),
+                () -> assertThat(requestedIds).containsExactly(List.of(2L, 3L))
+        );
+    }
+
+    private Optional<String> load(AtomicInteger loadCount, long id) {
+        loadCount.incrementAndGet();
+        return Optional.of("value" + id);
+    }
+}
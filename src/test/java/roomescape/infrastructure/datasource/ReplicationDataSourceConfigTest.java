@@ -0,0 +1,134 @@
+package roomescape.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.jdbc.Sql;
+import roomescape.application.AvailabilityIndex;
+import roomescape.application.ReservationService;
+import roomescape.application.ReservationTimeService;
+import roomescape.application.dto.request.ReservationSearchRequest;
+import roomescape.application.dto.response.AvailableTimeResponse;
+import roomescape.application.dto.response.ReservationPageResponse;
+import roomescape.config.TestConfig;
+import roomescape.domain.PlayerName;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationRepository;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.ReservationTimeRepository;
+import roomescape.domain.Theme;
+import roomescape.domain.ThemeName;
+import roomescape.domain.ThemeRepository;
+
+@SpringBootTest(
+        classes = TestConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "roomescape.datasource.replica.enabled=true",
+                "roomescape.datasource.replica.url=" + ReplicationDataSourceConfigTest.REPLICA_URL,
+                "roomescape.datasource.replica.read-your-writes-window=PT0S"
+        }
+)
+@Sql("/truncate.sql")
+class ReplicationDataSourceConfigTest {
+    static final String REPLICA_URL =
+            "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:schema.sql'";
+
+    private final JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource(REPLICA_URL, "sa", "")
+    );
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationTimeService reservationTimeService;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @BeforeEach
+    void setUp() {
+        replicaJdbcTemplate.execute("set referential_integrity false");
+        replicaJdbcTemplate.execute("truncate table reservation");
+        replicaJdbcTemplate.execute("truncate table theme");
+        replicaJdbcTemplate.execute("truncate table reservation_time");
+        replicaJdbcTemplate.execute("set referential_integrity true");
+        availabilityIndex.clear();
+    }
+
+    @DisplayName("복제본을 사용하도록 설정하면 읽기 전용 조회는 원본과 다른 복제본 데이터베이스에서 처리한다.")
+    @Test
+    void shouldFindReservationsFromReplicaWhenReplicaEnabled() {
+        saveReservation(LocalDate.of(2024, 1, 1));
+
+        ReservationPageResponse response = reservationService.findAll(
+                new ReservationSearchRequest(null, null, null, null, null, null)
+        );
+
+        assertAll(
+                () -> assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class),
+                () -> assertThat(findAllReservations()).hasSize(1),
+                () -> assertThat(response.reservations()).isEmpty()
+        );
+    }
+
+    @DisplayName("예약 가능 시간 인덱스는 복제본이 뒤처져 있어도 원본에서 읽어 채운다.")
+    @Test
+    void shouldLoadAvailabilityIndexFromPrimaryWhenReplicaLags() {
+        Reservation reservation = saveReservation(LocalDate.of(2000, 1, 2));
+        ReservationTime time = reservation.getTime();
+        Theme theme = reservation.getTheme();
+        replicaJdbcTemplate.update("insert into reservation_time (id, start_at) values (?, ?)",
+                time.getId(), time.getStartAt());
+        replicaJdbcTemplate.update("insert into theme (id, name, description, thumbnail) values (?, ?, ?, ?)",
+                theme.getId(), "test", "test", "test");
+
+        List<AvailableTimeResponse> first = reservationTimeService.findAvailableTimes(
+                reservation.getDate(), theme.getId());
+        List<AvailableTimeResponse> cached = reservationTimeService.findAvailableTimes(
+                reservation.getDate(), theme.getId());
+
+        assertAll(
+                () -> assertThat(first).extracting(AvailableTimeResponse::isBooked).containsExactly(true),
+                () -> assertThat(cached).extracting(AvailableTimeResponse::isBooked).containsExactly(true)
+        );
+    }
+
+    private Reservation saveReservation(LocalDate date) {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("test"), "test", "test"));
+        return reservationRepository.create(new Reservation(new PlayerName("test"), date, time, theme));
+    }
+
+    private List<Reservation> findAllReservations() {
+        List<Reservation> reservations = new ArrayList<>();
+        reservationRepository.scanAll(reservations::add);
+        return reservations;
+    }
+}
@@ -0,0 +1,176 @@
+package roomescape.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicationRoutingDataSourceTest {
+    private static final DataSource PRIMARY = createNode("primary");
+    private static final DataSource REPLICA = createNode("replica");
+
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서 조회한다.")
+    @Test
+    void shouldRouteReadOnlyTransactionToReplica() {
+        DataSource dataSource = createRoutingDataSource();
+
+        assertThat(findNodeName(dataSource, true)).isEqualTo("replica");
+    }
+
+    @DisplayName("쓰기 트랜잭션은 원본을 사용한다.")
+    @Test
+    void shouldRouteReadWriteTransactionToPrimary() {
+        DataSource dataSource = createRoutingDataSource();
+
+        assertThat(findNodeName(dataSource, false)).isEqualTo("primary");
+    }
+
+    @DisplayName("트랜잭션 밖의 요청은 원본을 사용한다.")
+    @Test
+    void shouldRouteNonTransactionalRequestToPrimary() {
+        DataSource dataSource = createRoutingDataSource();
+
+        String nodeName = new JdbcTemplate(dataSource).queryForObject("select name from node", String.class);
+
+        assertThat(nodeName).isEqualTo("primary");
+    }
+
+    @DisplayName("같은 클라이언트가 쓰기를 커밋한 뒤의 읽기 전용 트랜잭션은 원본에서 조회한다.")
+    @Test
+    void shouldRouteReadOnlyTransactionToPrimaryAfterOwnWrite() {
+        DataSource dataSource = createRoutingDataSource();
+        AtomicInteger writeCount = new AtomicInteger();
+
+        ReadYourWritesContext.open(false, writeCount::incrementAndGet);
+        try {
+            String beforeWrite = findNodeName(dataSource, true);
+            findNodeName(dataSource, false);
+            String afterWrite = findNodeName(dataSource, true);
+
+            assertAll(
+                    () -> assertThat(beforeWrite).isEqualTo("replica"),
+                    () -> assertThat(afterWrite).isEqualTo("primary"),
+                    () -> assertThat(writeCount.get()).isOne()
+            );
+        } finally {
+            ReadYourWritesContext.close();
+        }
+    }
+
+    @DisplayName("최근에 쓴 클라이언트의 읽기 전용 트랜잭션은 원본에서 조회한다.")
+    @Test
+    void shouldRouteReadOnlyTransactionToPrimaryForRecentlyWrittenClient() {
+        DataSource dataSource = createRoutingDataSource();
+
+        ReadYourWritesContext.open(true, () -> {
+        });
+        try {
+            assertThat(findNodeName(dataSource, true)).isEqualTo("primary");
+        } finally {
+            ReadYourWritesContext.close();
+        }
+    }
+
+    @DisplayName("롤백된 쓰기는 최근 쓰기로 기록하지 않는다.")
+    @Test
+    void shouldNotRecordRolledBackWrite() {
+        DataSource dataSource = createRoutingDataSource();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        AtomicInteger writeCount = new AtomicInteger();
+
+        ReadYourWritesContext.open(false, writeCount::incrementAndGet);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                new JdbcTemplate(dataSource).queryForObject("select name from node", String.class);
+                status.setRollbackOnly();
+            });
+
+            assertAll(
+                    () -> assertThat(findNodeName(dataSource, true)).isEqualTo("replica"),
+                    () -> assertThat(writeCount.get()).isZero()
+            );
+        } finally {
+            ReadYourWritesContext.close();
+        }
+    }
+
+    @DisplayName("다른 클라이언트의 쓰기가 계속 들어와도 읽기 전용 트랜잭션은 복제본에서 조회한다.")
+    @Test
+    void shouldKeepRoutingReadsToReplicaWhileOtherClientsWrite() throws Exception {
+        DataSource dataSource = createRoutingDataSource();
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        AtomicBoolean reading = new AtomicBoolean(true);
+        try {
+            Future<Integer> writes = writer.submit(() -> {
+                int count = 0;
+                ReadYourWritesContext.open(false, () -> {
+                });
+                try {
+                    do {
+                        findNodeName(dataSource, false);
+                        count++;
+                    } while (reading.get());
+                } finally {
+                    ReadYourWritesContext.close();
+                }
+                return count;
+            });
+            List<String> readNodes = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                ReadYourWritesContext.open(false, () -> {
+                });
+                try {
+                    readNodes.add(findNodeName(dataSource, true));
+                } finally {
+                    ReadYourWritesContext.close();
+                }
+            }
+            reading.set(false);
+
+            assertAll(
+                    () -> assertThat(writes.get(10, TimeUnit.SECONDS)).isPositive(),
+                    () -> assertThat(readNodes).containsOnly("replica")
+            );
+        } finally {
+            writer.shutdownNow();
+        }
+    }
+
+    private DataSource createRoutingDataSource() {
+        return new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(PRIMARY, REPLICA));
+    }
+
+    private String findNodeName(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transactionTemplate.execute(
+                status -> jdbcTemplate.queryForObject("select name from node", String.class)
+        );
+    }
+
+    private static DataSource createNode(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", ""
+        );
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists node (name varchar(20) primary key)");
+        jdbcTemplate.update("merge into node key (name) values (?)", name);
+        return dataSource;
+    }
+}
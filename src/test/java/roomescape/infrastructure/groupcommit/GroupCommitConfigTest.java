@@ -0,0 +1,177 @@
+package roomescape.infrastructure.groupcommit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.application.AvailabilityIndex;
+import roomescape.application.ReservationService;
+import roomescape.application.dto.request.ReservationRequest;
+import roomescape.config.TestConfig;
+import roomescape.domain.PlayerName;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationRepository;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.ReservationTimeRepository;
+import roomescape.domain.Theme;
+import roomescape.domain.ThemeName;
+import roomescape.domain.ThemeRepository;
+import roomescape.domain.TimeSlot;
+import roomescape.exception.RoomescapeException;
+
+@SpringBootTest(
+        classes = TestConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "roomescape.reservation.group-commit.enabled=true"
+)
+@Sql("/truncate.sql")
+class GroupCommitConfigTest {
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    @Qualifier("groupCommitWriterRepository")
+    private ReservationRepository writerRepository;
+
+    @DisplayName("묶음 저장을 사용하도록 설정하면 동시 예약을 묶어서 저장하고 슬롯마다 하나의 예약만 성공한다.")
+    @Test
+    void shouldCreateOnlyOneReservationPerSlotWhenGroupCommitEnabled() throws InterruptedException {
+        int slotCount = 8;
+        int requestsPerSlot = 8;
+        int totalRequests = slotCount * requestsPerSlot;
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("test"), "test", "test"));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(totalRequests);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(totalRequests);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger duplicatedCount = new AtomicInteger();
+        for (int i = 0; i < totalRequests; i++) {
+            LocalDate date = LocalDate.of(2024, 1, 1).plusDays(i % slotCount);
+            ReservationRequest request = new ReservationRequest(
+                    "user" + i, date.toString(), time.getId(), theme.getId()
+            );
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    reservationService.create(request);
+                    successCount.incrementAndGet();
+                } catch (RoomescapeException e) {
+                    duplicatedCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        Long dailyCount = jdbcTemplate.queryForObject(
+                "select sum(reservation_count) from theme_daily_stats where theme_id = ?", Long.class, theme.getId()
+        );
+        assertAll(
+                () -> assertThat(reservationRepository).isInstanceOf(GroupCommitReservationRepository.class),
+                () -> assertThat(successCount.get()).isEqualTo(slotCount),
+                () -> assertThat(duplicatedCount.get()).isEqualTo(totalRequests - slotCount),
+                () -> assertThat(findAllReservations()).hasSize(slotCount),
+                () -> assertThat(dailyCount).isEqualTo(slotCount)
+        );
+    }
+
+    @DisplayName("묶음으로 저장한 뒤 호출한 쪽 트랜잭션이 롤백되면 저장한 예약과 통계를 되돌린다.")
+    @Test
+    void shouldCompensateReservationWhenCallerRollsBack() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("test"), "test", "test"));
+        Reservation reservation = new Reservation(new PlayerName("test"), LocalDate.of(2024, 1, 1), time, theme);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            reservationRepository.create(reservation);
+            status.setRollbackOnly();
+        });
+
+        Long dailyCount = jdbcTemplate.queryForObject(
+                "select coalesce(sum(reservation_count), 0) from theme_daily_stats where theme_id = ?",
+                Long.class, theme.getId()
+        );
+        assertAll(
+                () -> assertThat(findAllReservations()).isEmpty(),
+                () -> assertThat(dailyCount).isZero()
+        );
+    }
+
+    @DisplayName("보상 삭제를 하면 예약 가능 시간 인덱스에서도 슬롯을 비운다.")
+    @Test
+    void shouldFreeSlotInAvailabilityIndexWhenCompensated() {
+        ReservationTime time = reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+        Theme theme = themeRepository.create(new Theme(new ThemeName("test"), "test", "test"));
+        LocalDate date = LocalDate.of(2000, 1, 2);
+        Reservation reservation = new Reservation(new PlayerName("test"), date, time, theme);
+        availabilityIndex.clear();
+
+        List<TimeSlot> bookedSlots = new TransactionTemplate(transactionManager).execute(status -> {
+            reservationRepository.create(reservation);
+            status.setRollbackOnly();
+            return availabilityIndex.getTimeSlots(date, theme.getId());
+        });
+
+        assertAll(
+                () -> assertThat(bookedSlots).extracting(TimeSlot::isBooked).containsExactly(true),
+                () -> assertThat(availabilityIndex.getTimeSlots(date, theme.getId()))
+                        .extracting(TimeSlot::isBooked)
+                        .containsExactly(false)
+        );
+    }
+
+    @DisplayName("묶음 저장 스레드의 저장소도 빈으로 만들어 저장소 측정 대상에 포함한다.")
+    @Test
+    void shouldInstrumentWriterRepository() {
+        assertThat(AopUtils.isAopProxy(writerRepository)).isTrue();
+    }
+
+    private List<Reservation> findAllReservations() {
+        List<Reservation> reservations = new ArrayList<>();
+        reservationRepository.scanAll(reservations::add);
+        return reservations;
+    }
+}
@@ -0,0 +1,120 @@
+package roomescape.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import roomescape.application.IdempotencyService;
+import roomescape.application.ReservationService;
+import roomescape.application.ServiceTest;
+import roomescape.application.ThemeService;
+import roomescape.application.dto.request.ReservationRequest;
+import roomescape.application.dto.request.ThemeRequest;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.ReservationTimeRepository;
+import roomescape.exception.RejectionReason;
+import roomescape.exception.RoomescapeException;
+
+@ServiceTest
+class MetricsAspectTest {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private ThemeService themeService;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @DisplayName("저장소 메서드를 호출하면 저장소와 메서드별 실행 시간을 기록한다.")
+    @Test
+    void shouldRecordRepositoryMethodTimer() {
+        long before = countOf("JdbcReservationTimeRepository", "create");
+
+        reservationTimeRepository.create(new ReservationTime(LocalTime.of(10, 0)));
+
+        assertThat(countOf("JdbcReservationTimeRepository", "create")).isEqualTo(before + 1);
+    }
+
+    @DisplayName("서비스에서 예약이 거절되면 거절 사유별로 횟수를 기록한다.")
+    @Test
+    void shouldCountRejectionByReason() {
+        double before = rejectionCountOf(RejectionReason.NOT_FOUND);
+        ReservationRequest request = new ReservationRequest("test", "2024-01-01", 1L, 99L);
+
+        assertThatThrownBy(() -> reservationService.create(request))
+                .isInstanceOf(RoomescapeException.class);
+
+        assertThat(rejectionCountOf(RejectionReason.NOT_FOUND)).isEqualTo(before + 1);
+    }
+
+    @DisplayName("도메인 검증 메시지가 달라도 거절 사유 태그는 고정된 값만 쓴다.")
+    @Test
+    void shouldTagRejectionWithFixedReasonInsteadOfMessage() {
+        ThemeRequest request = new ThemeRequest("", "테마 설명", "url");
+
+        assertThatThrownBy(() -> themeService.create(request))
+                .isInstanceOf(RoomescapeException.class);
+
+        assertAll(
+                () -> assertThat(rejectionCountOf(RejectionReason.INVALID_REQUEST)).isPositive(),
+                () -> assertThat(meterRegistry.find("roomescape.rejections").counters())
+                        .extracting(counter -> RejectionReason.valueOf(counter.getId().getTag("reason")))
+                        .isNotEmpty()
+        );
+    }
+
+    @DisplayName("멱등 키로 감싼 예약이 거절되어도 거절 횟수는 한 번만 기록한다.")
+    @Test
+    void shouldCountRejectionOnceWhenIdempotent() {
+        double before = rejectionCountOf(RejectionReason.NOT_FOUND);
+        ReservationRequest request = new ReservationRequest("test", "2024-01-01", 1L, 99L);
+
+        assertThatThrownBy(() -> idempotencyService.execute("rejected-key", "request", () -> {
+            reservationService.create(request);
+            return "response";
+        })).isInstanceOf(RoomescapeException.class);
+
+        assertThat(rejectionCountOf(RejectionReason.NOT_FOUND)).isEqualTo(before + 1);
+    }
+
+    @DisplayName("멱등 키를 잘못 사용한 요청은 예약 거절로 기록하지 않는다.")
+    @Test
+    void shouldNotCountIdempotencyKeyMisuseAsRejection() {
+        double before = rejectionCountOf(RejectionReason.INVALID_REQUEST);
+        idempotencyService.execute("misused-key", "request", () -> "response");
+
+        assertThatThrownBy(() -> idempotencyService.execute("misused-key", "other", () -> "response"))
+                .isInstanceOf(RoomescapeException.class);
+
+        assertThat(rejectionCountOf(RejectionReason.INVALID_REQUEST)).isEqualTo(before);
+    }
+
+    private long countOf(String repository, String method) {
+        Timer timer = meterRegistry.find("roomescape.repository")
+                .tag("repository", repository)
+                .tag("method", method)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double rejectionCountOf(RejectionReason reason) {
+        Counter counter = meterRegistry.find("roomescape.rejections")
+                .tag("reason", reason.name())
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,68 @@
+package roomescape.infrastructure.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.util.FileSystemUtils;
+import roomescape.config.TestConfig;
+
+@SpringBootTest(
+        classes = TestConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:file:./build/tmp/snapshot-test/db/roomescape",
+                "spring.sql.init.mode=always",
+                "roomescape.persistence.enabled=true",
+                "roomescape.persistence.snapshot-directory=" + H2SnapshotManagerTest.SNAPSHOT_DIRECTORY,
+                "roomescape.persistence.snapshot-retention=2"
+        }
+)
+@Sql("/truncate.sql")
+class H2SnapshotManagerTest {
+    static final String SNAPSHOT_DIRECTORY = "build/tmp/snapshot-test/snapshots";
+
+    @Autowired
+    private H2SnapshotManager snapshotManager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FileSystemUtils.deleteRecursively(Path.of(SNAPSHOT_DIRECTORY));
+    }
+
+    @DisplayName("실행 중인 데이터베이스의 파일을 압축한 스냅숏을 만든다.")
+    @Test
+    void shouldCreateCompressedSnapshotOfDatabaseFile() throws IOException {
+        DatabaseSnapshot snapshot = snapshotManager.create();
+
+        Path file = Path.of(SNAPSHOT_DIRECTORY, snapshot.name());
+        try (ZipFile zipFile = new ZipFile(file.toFile())) {
+            List<String> entries = zipFile.stream().map(ZipEntry::getName).toList();
+            assertAll(
+                    () -> assertThat(snapshot.sizeBytes()).isEqualTo(Files.size(file)),
+                    () -> assertThat(entries).contains("roomescape.mv.db")
+            );
+        }
+    }
+
+    @DisplayName("보관 개수를 넘는 오래된 스냅숏은 지운다.")
+    @Test
+    void shouldKeepOnlyLatestSnapshots() {
+        snapshotManager.create();
+        DatabaseSnapshot second = snapshotManager.create();
+        DatabaseSnapshot third = snapshotManager.create();
+
+        assertThat(snapshotManager.findAll()).containsExactly(third, second);
+    }
+}
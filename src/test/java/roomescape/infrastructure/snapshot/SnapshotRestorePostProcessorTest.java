@@ -0,0 +1,62 @@
+package roomescape.infrastructure.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+class SnapshotRestorePostProcessorTest {
+    @TempDir
+    private Path directory;
+
+    @DisplayName("가장 최근 스냅숏을 데이터베이스 파일 위치에 풀고, 기존 파일은 따로 남긴다.")
+    @Test
+    void shouldRestoreLatestSnapshot() throws IOException {
+        Path snapshots = Files.createDirectories(directory.resolve("snapshots"));
+        writeSnapshot(snapshots.resolve("roomescape-20240101-000000-000.zip"), "old");
+        writeSnapshot(snapshots.resolve("roomescape-20240102-000000-000.zip"), "latest");
+        Path database = Files.createDirectories(directory.resolve("db"));
+        Files.writeString(database.resolve("roomescape.mv.db"), "current");
+        String url = "jdbc:h2:file:" + database.resolve("roomescape") + ";CACHE_SIZE=65536";
+
+        new SnapshotRestorePostProcessor(url, snapshots, "latest")
+                .postProcessBeanFactory(new DefaultListableBeanFactory());
+
+        assertAll(
+                () -> assertThat(database.resolve("roomescape.mv.db")).hasContent("latest"),
+                () -> assertThat(database.resolve("roomescape.mv.db.before-restore")).hasContent("current")
+        );
+    }
+
+    @DisplayName("메모리 데이터베이스 주소로는 스냅숏을 복원할 수 없다.")
+    @Test
+    void shouldThrowExceptionWhenDatabaseIsInMemory() throws IOException {
+        Path snapshot = directory.resolve("roomescape-20240101-000000-000.zip");
+        writeSnapshot(snapshot, "snapshot");
+        SnapshotRestorePostProcessor postProcessor = new SnapshotRestorePostProcessor(
+                "jdbc:h2:mem:database", directory, snapshot.toString()
+        );
+
+        assertThatThrownBy(() -> postProcessor.postProcessBeanFactory(new DefaultListableBeanFactory()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void writeSnapshot(Path file, String content) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(file);
+             ZipOutputStream zip = new ZipOutputStream(outputStream)) {
+            zip.putNextEntry(new ZipEntry("roomescape.mv.db"));
+            zip.write(content.getBytes());
+            zip.closeEntry();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package roomescape.infrastructure.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.config.TestConfig;
+
+@SpringBootTest(
+        classes = TestConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "roomescape.statement-stats.enabled=true",
+                "roomescape.datasource.replica.enabled=true",
+                "roomescape.datasource.replica.url=jdbc:h2:mem:statement-statistics-replica;DB_CLOSE_DELAY=-1"
+        }
+)
+class StatementStatisticsPostProcessorTest {
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementStatistics statementStatistics;
+
+    @DisplayName("주입되는 데이터 소스만 감싸고, HikariDataSource로 선언한 커넥션 풀은 그대로 둔다.")
+    @Test
+    void shouldWrapOnlyInjectedDataSource() {
+        jdbcTemplate.queryForObject("select count(*) from theme", Long.class);
+
+        assertAll(
+                () -> assertThat(dataSource).isInstanceOf(StatementStatisticsDataSource.class),
+                () -> assertThat(primaryDataSource.getPoolName()).isEqualTo("primary"),
+                () -> assertThat(replicaDataSource.getPoolName()).isEqualTo("replica"),
+                () -> assertThat(statementStatistics.findAll())
+                        .extracting(StatementStats::sql)
+                        .contains("select count(*) from theme")
+        );
+    }
+}
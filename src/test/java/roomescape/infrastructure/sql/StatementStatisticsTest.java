@@ -0,0 +1,132 @@
+package roomescape.infrastructure.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class StatementStatisticsTest {
+    private static final DataSource DATA_SOURCE = new DriverManagerDataSource(
+            "jdbc:h2:mem:statement-statistics;DB_CLOSE_DELAY=-1", "sa", ""
+    );
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(DATA_SOURCE);
+        jdbcTemplate.execute("drop table if exists player");
+        jdbcTemplate.execute("create table player (id bigint primary key, name varchar(20))");
+        jdbcTemplate.batchUpdate(
+                "insert into player (id, name) values (?, ?)",
+                List.of(new Object[]{1L, "a"}, new Object[]{2L, "b"}, new Object[]{3L, "c"})
+        );
+    }
+
+    @DisplayName("바인딩 개수만 다른 SQL은 하나의 형태로 묶어 호출 수와 행 수를 집계한다.")
+    @Test
+    void shouldAggregateStatementsOfSameShape() {
+        StatementStatistics statistics = createStatistics(Duration.ofSeconds(10));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new StatementStatisticsDataSource(DATA_SOURCE, statistics));
+
+        jdbcTemplate.queryForList("select name from player where id in (?)", String.class, 1L);
+        jdbcTemplate.queryForList("select name from player where id in (?, ?, ?)", String.class, 1L, 2L, 3L);
+
+        StatementStats stats = findStats(statistics, "select name from player where id in (?, ...)");
+        assertAll(
+                () -> assertThat(stats.calls()).isEqualTo(2),
+                () -> assertThat(stats.rows()).isEqualTo(4),
+                () -> assertThat(stats.slowCalls()).isZero()
+        );
+    }
+
+    @DisplayName("변경 SQL은 변경된 행 수를 집계한다.")
+    @Test
+    void shouldCountUpdatedRows() {
+        StatementStatistics statistics = createStatistics(Duration.ofSeconds(10));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new StatementStatisticsDataSource(DATA_SOURCE, statistics));
+
+        jdbcTemplate.update("update player set name = ? where id >= ?", "z", 2L);
+
+        assertThat(findStats(statistics, "update player set name = ? where id >= ?").rows()).isEqualTo(2);
+    }
+
+    @DisplayName("기준 시간 이상 걸린 SQL은 느린 호출로 센다.")
+    @Test
+    void shouldCountSlowCalls() {
+        StatementStatistics statistics = createStatistics(Duration.ZERO);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new StatementStatisticsDataSource(DATA_SOURCE, statistics));
+
+        jdbcTemplate.queryForObject("select count(*) from player", Long.class);
+
+        assertThat(findStats(statistics, "select count(*) from player").slowCalls()).isEqualTo(1);
+    }
+
+    @DisplayName("SQL 형태에서는 문자열과 숫자 값을 지운다.")
+    @Test
+    void shouldRedactLiteralsFromShape() {
+        String shape = StatementStatistics.normalize("""
+                select *  from player
+                where name = 'it''s' and id > 10 and (id, name) in ((?, ?), (?, ?))
+                """);
+
+        assertThat(shape).isEqualTo("select * from player where name = ? and id > ? and (id, name) in ((?, ?), ...)");
+    }
+
+    @DisplayName("조회 SQL의 실행 계획은 바인딩 값을 넣어 분석하되 값은 남기지 않는다.")
+    @Test
+    void shouldExplainWithoutBindValues() throws Exception {
+        BindParameter bind = new BindParameter(
+                PreparedStatement.class.getMethod("setString", int.class, String.class),
+                new Object[]{1, "secret"}
+        );
+        StatementExecution execution = new StatementExecution(
+                DATA_SOURCE, "select id from player where name = ?", List.of(bind), false, 0, 0
+        );
+
+        try (SlowStatementExplainer explainer = new SlowStatementExplainer()) {
+            String plan = explainer.planOf(execution);
+
+            assertAll(
+                    () -> assertThat(plan).contains("scanCount"),
+                    () -> assertThat(plan).doesNotContain("secret")
+            );
+        }
+    }
+
+    @DisplayName("변경 SQL은 실제로 실행하지 않고 실행 계획만 가져온다.")
+    @Test
+    void shouldNotExecuteUpdateWhenExplaining() throws Exception {
+        BindParameter bind = new BindParameter(
+                PreparedStatement.class.getMethod("setLong", int.class, long.class),
+                new Object[]{1, 1L}
+        );
+        StatementExecution execution = new StatementExecution(
+                DATA_SOURCE, "delete from player where id = ?", List.of(bind), false, 0, 0
+        );
+
+        try (SlowStatementExplainer explainer = new SlowStatementExplainer()) {
+            explainer.planOf(execution);
+        }
+
+        Long count = new JdbcTemplate(DATA_SOURCE).queryForObject("select count(*) from player", Long.class);
+        assertThat(count).isEqualTo(3);
+    }
+
+    private StatementStatistics createStatistics(Duration slowThreshold) {
+        return new StatementStatistics(slowThreshold, 100, false, Duration.ofMinutes(1));
+    }
+
+    private StatementStats findStats(StatementStatistics statistics, String shape) {
+        return statistics.findAll().stream()
+                .filter(stats -> stats.sql().equals(shape))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,93 @@
+package roomescape.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.ErrorResponseException;
+import roomescape.application.SlotChangedEvent;
+
+class AvailabilityStreamBroadcasterTest {
+    private static final LocalDate DATE = LocalDate.of(2024, 12, 25);
+
+    private final AvailabilityStreamBroadcaster broadcaster = new AvailabilityStreamBroadcaster(
+            new ObjectMapper().registerModule(new JavaTimeModule()), Runnable::run, 2, Duration.ofMinutes(1), 2
+    );
+
+    @DisplayName("구독하면 구독자 수가 늘어난다.")
+    @Test
+    void shouldIncreaseSubscriberCountWhenSubscribe() {
+        broadcaster.subscribe(DATE, 1L);
+        broadcaster.subscribe(DATE, 2L);
+
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @DisplayName("구독자 수가 한도를 넘으면 503 예외가 발생한다.")
+    @Test
+    void shouldThrowServiceUnavailableWhenSubscribersExceedLimit() {
+        broadcaster.subscribe(DATE, 1L);
+        broadcaster.subscribe(DATE, 1L);
+
+        assertThatThrownBy(() -> broadcaster.subscribe(DATE, 1L))
+                .isInstanceOf(ErrorResponseException.class)
+                .extracting(exception -> ((ErrorResponseException) exception).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @DisplayName("구독 중인 슬롯의 변경 사항과 하트비트를 전송한다.")
+    @Test
+    void shouldSendSlotChangeAndHeartbeatToSubscribers() {
+        broadcaster.subscribe(DATE, 1L);
+
+        assertThatCode(() -> {
+            broadcaster.onSlotChanged(new SlotChangedEvent(DATE, 1L, 1L, true));
+            broadcaster.onSlotChanged(new SlotChangedEvent(DATE, 2L, 1L, false));
+            broadcaster.sendHeartbeats();
+        }).doesNotThrowAnyException();
+    }
+
+    @DisplayName("전송이 밀려 대기 메시지가 한도를 넘은 구독자는 연결을 끊는다.")
+    @Test
+    void shouldDisconnectSubscriberWhenPendingMessagesExceedLimit() {
+        List<Runnable> tasks = new ArrayList<>();
+        AvailabilityStreamBroadcaster stalledBroadcaster = createBroadcaster(tasks);
+        stalledBroadcaster.subscribe(DATE, 1L);
+
+        for (int i = 0; i < 3; i++) {
+            stalledBroadcaster.onSlotChanged(new SlotChangedEvent(DATE, 1L, 1L, i % 2 == 0));
+        }
+
+        assertThat(stalledBroadcaster.getSubscriberCount()).isZero();
+    }
+
+    @DisplayName("하트비트는 스케줄러 스레드에서 직접 보내지 않고 전송 작업으로 넘긴다.")
+    @Test
+    void shouldHandOffHeartbeatToExecutor() {
+        List<Runnable> tasks = new ArrayList<>();
+        AvailabilityStreamBroadcaster stalledBroadcaster = createBroadcaster(tasks);
+        stalledBroadcaster.subscribe(DATE, 1L);
+        stalledBroadcaster.subscribe(DATE, 2L);
+
+        stalledBroadcaster.sendHeartbeats();
+        stalledBroadcaster.sendHeartbeats();
+
+        assertThat(tasks).hasSize(2);
+    }
+
+    private AvailabilityStreamBroadcaster createBroadcaster(List<Runnable> tasks) {
+        return new AvailabilityStreamBroadcaster(
+                new ObjectMapper().registerModule(new JavaTimeModule()), tasks::add, 10, Duration.ofMinutes(1), 2
+        );
+    }
+}
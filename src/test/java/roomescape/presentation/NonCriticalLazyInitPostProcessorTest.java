@@ -0,0 +1,35 @@
+package roomescape.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.autoconfigure.h2.H2ConsoleAutoConfiguration;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+class NonCriticalLazyInitPostProcessorTest {
+
+    @DisplayName("관리자, 클라이언트 페이지 컨트롤러와 Thymeleaf 빈만 지연 초기화로 바꾸고 H2 콘솔은 그대로 둔다.")
+    @Test
+    void shouldMarkOnlyNonCriticalBeansLazy() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("adminController", new RootBeanDefinition(AdminController.class));
+        beanFactory.registerBeanDefinition("clientController", new RootBeanDefinition(ClientController.class));
+        beanFactory.registerBeanDefinition("templateEngine", new RootBeanDefinition(SpringTemplateEngine.class));
+        beanFactory.registerBeanDefinition("themeController", new RootBeanDefinition(ThemeController.class));
+        beanFactory.registerBeanDefinition("h2Console", new RootBeanDefinition(H2ConsoleAutoConfiguration.class));
+
+        new NonCriticalLazyInitPostProcessor().postProcessBeanFactory(beanFactory);
+
+        assertAll(
+                () -> assertThat(beanFactory.getBeanDefinition("adminController").isLazyInit()).isTrue(),
+                () -> assertThat(beanFactory.getBeanDefinition("clientController").isLazyInit()).isTrue(),
+                () -> assertThat(beanFactory.getBeanDefinition("templateEngine").isLazyInit()).isTrue(),
+                () -> assertThat(beanFactory.getBeanDefinition("themeController").isLazyInit()).isFalse(),
+                () -> assertThat(beanFactory.getBeanDefinition("h2Console").isLazyInit()).isFalse()
+        );
+    }
+}
@@ -0,0 +1,150 @@
+package roomescape.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.web.servlet.HandlerMapping;
+import roomescape.application.ThemeService;
+import roomescape.presentation.RateLimitProperties.Rule;
+
+@WebMvcTest(
+        controllers = ThemeController.class,
+        properties = {
+                "roomescape.rate-limit.client-header=X-Forwarded-For",
+                "roomescape.rate-limit.trusted-proxies=10.0.1.1",
+                "roomescape.rate-limit.rules[0].method=GET",
+                "roomescape.rate-limit.rules[0].pattern=/themes",
+                "roomescape.rate-limit.rules[0].capacity=2",
+                "roomescape.rate-limit.rules[0].refill-period=PT1H",
+                "roomescape.rate-limit.rules[1].method=GET",
+                "roomescape.rate-limit.rules[1].pattern=/themes",
+                "roomescape.rate-limit.rules[1].client=10.0.0.100",
+                "roomescape.rate-limit.rules[1].capacity=4",
+                "roomescape.rate-limit.rules[1].refill-period=PT1H"
+        }
+)
+class RateLimitInterceptorTest extends ControllerTest {
+    @MockBean
+    private ThemeService themeService;
+
+    @DisplayName("한도를 넘은 요청은 429 Too Many Requests와 Retry-After 헤더로 응답한다.")
+    @Test
+    void shouldRespondTooManyRequestsWhenLimitExceeded() throws Exception {
+        mvc.perform(get("/themes").with(remoteAddr("10.0.0.1"))).andExpect(status().isOk());
+        mvc.perform(get("/themes").with(remoteAddr("10.0.0.1"))).andExpect(status().isOk());
+
+        mvc.perform(get("/themes").with(remoteAddr("10.0.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3600"))
+                .andExpect(jsonPath("$.status").value(429));
+    }
+
+    @DisplayName("클라이언트마다 버킷을 따로 둔다.")
+    @Test
+    void shouldLimitEachClientSeparately() throws Exception {
+        mvc.perform(get("/themes").with(remoteAddr("10.0.0.2"))).andExpect(status().isOk());
+        mvc.perform(get("/themes").with(remoteAddr("10.0.0.2"))).andExpect(status().isOk());
+        mvc.perform(get("/themes").with(remoteAddr("10.0.0.2"))).andExpect(status().isTooManyRequests());
+
+        mvc.perform(get("/themes").with(remoteAddr("10.0.0.3"))).andExpect(status().isOk());
+    }
+
+    @DisplayName("신뢰하는 프록시를 거친 요청은 전달 헤더의 마지막 주소를 클라이언트로 본다.")
+    @Test
+    void shouldLimitForwardedClientsSeparatelyBehindTrustedProxy() throws Exception {
+        mvc.perform(get("/themes").with(remoteAddr("10.0.1.1")).header("X-Forwarded-For", "10.0.0.9, 10.0.0.10"))
+                .andExpect(status().isOk());
+        mvc.perform(get("/themes").with(remoteAddr("10.0.1.1")).header("X-Forwarded-For", "10.0.0.10"))
+                .andExpect(status().isOk());
+        mvc.perform(get("/themes").with(remoteAddr("10.0.1.1")).header("X-Forwarded-For", "10.0.0.10"))
+                .andExpect(status().isTooManyRequests());
+
+        mvc.perform(get("/themes").with(remoteAddr("10.0.1.1")).header("X-Forwarded-For", "10.0.0.11"))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("신뢰하지 않는 주소가 보낸 전달 헤더는 무시한다.")
+    @Test
+    void shouldIgnoreForwardedHeaderFromUntrustedAddress() throws Exception {
+        mvc.perform(get("/themes").with(remoteAddr("10.0.0.12")).header("X-Forwarded-For", "10.0.0.13"))
+                .andExpect(status().isOk());
+        mvc.perform(get("/themes").with(remoteAddr("10.0.0.12")).header("X-Forwarded-For", "10.0.0.14"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/themes").with(remoteAddr("10.0.0.12")).header("X-Forwarded-For", "10.0.0.15"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @DisplayName("클라이언트를 지정한 규칙은 공통 규칙보다 우선한다.")
+    @Test
+    void shouldApplyClientSpecificRuleFirst() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            mvc.perform(get("/themes").with(remoteAddr("10.0.0.100"))).andExpect(status().isOk());
+        }
+
+        mvc.perform(get("/themes").with(remoteAddr("10.0.0.100"))).andExpect(status().isTooManyRequests());
+    }
+
+    @DisplayName("규칙이 없는 경로는 제한하지 않는다.")
+    @Test
+    void shouldNotLimitUnmatchedPattern() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mvc.perform(get("/themes/popular").with(remoteAddr("10.0.0.4"))).andExpect(status().isOk());
+        }
+    }
+
+    @DisplayName("버킷 수가 한도에 이르면 가득 찬 버킷을 지우고, 그래도 가득하면 새 클라이언트는 공용 버킷을 쓴다.")
+    @Test
+    void shouldShareOverflowBucketWhenTableIsFull() {
+        Rule rule = new Rule("GET", "/themes", null, 1, Duration.ofHours(1));
+        RateLimitProperties properties = new RateLimitProperties(true, 1, null, null, List.of(rule));
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(properties);
+
+        assertThat(interceptor.preHandle(themesRequest("10.0.0.5"), new MockHttpServletResponse(), null)).isTrue();
+        assertThat(interceptor.preHandle(themesRequest("10.0.0.6"), new MockHttpServletResponse(), null)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(themesRequest("10.0.0.7"), new MockHttpServletResponse(), null))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(interceptor.bucketCount()).isOne();
+    }
+
+    @DisplayName("토큰이 모두 다시 채워진 버킷은 지운다.")
+    @Test
+    void shouldEvictIdleBuckets() {
+        Rule rule = new Rule("GET", "/themes", null, 1, Duration.ofNanos(1));
+        RateLimitProperties properties = new RateLimitProperties(true, 10, null, null, List.of(rule));
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(properties);
+        interceptor.preHandle(themesRequest("10.0.0.8"), new MockHttpServletResponse(), null);
+
+        interceptor.evictIdle(System.nanoTime() + 1);
+
+        assertThat(interceptor.bucketCount()).isZero();
+    }
+
+    private RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    private MockHttpServletRequest themesRequest(String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/themes");
+        request.setRemoteAddr(address);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/themes");
+        return request;
+    }
+}
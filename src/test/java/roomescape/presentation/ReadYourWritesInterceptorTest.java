@@ -0,0 +1,77 @@
+package roomescape.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.infrastructure.datasource.ReplicationRoutingDataSource;
+
+class ReadYourWritesInterceptorTest {
+    private static final DataSource NODE = new DriverManagerDataSource(
+            "jdbc:h2:mem:read-your-writes;DB_CLOSE_DELAY=-1", "sa", ""
+    );
+    private static final DataSource DATA_SOURCE = new LazyConnectionDataSourceProxy(
+            new ReplicationRoutingDataSource(NODE, NODE)
+    );
+
+    @DisplayName("쓰기를 커밋한 요청의 응답에는 허용 지연 시간만큼 유지되는 최근 쓰기 쿠키를 담는다.")
+    @Test
+    void shouldAddRecentWriteCookieAfterCommittedWrite() {
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofMillis(1500));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        write();
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE))
+                .startsWith(ReadYourWritesInterceptor.COOKIE_NAME + "=")
+                .contains("Max-Age=2");
+    }
+
+    @DisplayName("쓰기가 없는 요청에는 최근 쓰기 쿠키를 담지 않는다.")
+    @Test
+    void shouldNotAddCookieWithoutWrite() {
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofSeconds(1));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesInterceptor.COOKIE_NAME, "1"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+    }
+
+    @DisplayName("허용 지연 시간이 0이면 쓰기를 커밋해도 쿠키를 담지 않는다.")
+    @Test
+    void shouldNotAddCookieWhenWindowIsZero() {
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ZERO);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        write();
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+    }
+
+    private void write() {
+        new TransactionTemplate(new DataSourceTransactionManager(DATA_SOURCE)).executeWithoutResult(
+                status -> new JdbcTemplate(DATA_SOURCE).execute("select 1")
+        );
+    }
+}
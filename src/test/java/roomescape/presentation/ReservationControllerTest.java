@@ -1,27 +1,49 @@
 package roomescape.presentation;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import roomescape.application.IdempotencyService;
+import roomescape.application.ReservationArchiveService;
 import roomescape.application.ReservationService;
+import roomescape.application.dto.request.ReservationBatchMode;
+import roomescape.application.dto.request.ReservationBatchRequest;
 import roomescape.application.dto.request.ReservationRequest;
+import roomescape.application.dto.request.ReservationSearchRequest;
+import roomescape.application.dto.response.ReservationBatchItemResponse;
+import roomescape.application.dto.response.ReservationBatchResponse;
+import roomescape.application.dto.response.ReservationPageResponse;
 import roomescape.application.dto.response.ReservationResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
 import roomescape.application.dto.response.ThemeResponse;
@@ -32,6 +54,12 @@ class ReservationControllerTest extends ControllerTest {
     @MockBean
     private ReservationService reservationService;
 
+    @MockBean
+    private ReservationArchiveService reservationArchiveService;
+
+    @MockBean
+    private IdempotencyService idempotencyService;
+
     @DisplayName("저장된 모든 예약을 반환한다.")
     @Test
     void shouldReturnReservationResponsesWhenReservationsExist() throws Exception {
@@ -39,29 +67,161 @@ class ReservationControllerTest extends ControllerTest {
                 1L, "test", LocalDate.of(2024, 12, 25),
                 new ReservationTimeResponse(1L, LocalTime.now()),
                 new ThemeResponse(1L, "test", "test", "test"));
-        String reservationResponsesJson = objectMapper.writeValueAsString(List.of(reservationResponse));
+        ReservationPageResponse pageResponse = new ReservationPageResponse(List.of(reservationResponse), 1L);
+        String reservationResponsesJson = objectMapper.writeValueAsString(pageResponse);
 
-        given(reservationService.findAll())
-                .willReturn(List.of(reservationResponse));
+        given(reservationService.findAll(any(ReservationSearchRequest.class)))
+                .willReturn(pageResponse);
 
         mvc.perform(get("/reservations"))
                 .andExpect(status().isOk())
                 .andExpect(content().json(reservationResponsesJson));
     }
 
+    @DisplayName("Accept 헤더로 CBOR, Smile을 요청하면 해당 형식으로 예약 목록을 반환한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"application/cbor", "application/x-jackson-smile"})
+    void shouldReturnBinaryEncodedReservationsWhenAcceptBinaryFormat(String mediaType) throws Exception {
+        ReservationResponse reservationResponse = new ReservationResponse(
+                1L, "test", LocalDate.of(2024, 12, 25),
+                new ReservationTimeResponse(1L, LocalTime.of(10, 0)),
+                new ThemeResponse(1L, "test", "test", "test"));
+        ReservationPageResponse pageResponse = new ReservationPageResponse(List.of(reservationResponse), 1L);
+        ObjectMapper binaryMapper = mediaType.equals("application/cbor")
+                ? new ObjectMapper(new CBORFactory())
+                : new ObjectMapper(new SmileFactory());
+        binaryMapper.findAndRegisterModules();
+
+        given(reservationService.findAll(any(ReservationSearchRequest.class)))
+                .willReturn(pageResponse);
+
+        byte[] body = mvc.perform(get("/reservations").accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(mediaType))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        assertThat(binaryMapper.readValue(body, ReservationPageResponse.class)).isEqualTo(pageResponse);
+    }
+
     @DisplayName("저장된 예약이 없다면 빈 리스트를 반환한다.")
     @Test
     void shouldReturnEmptyListWhenReservationsIsEmpty() throws Exception {
-        String reservationResponsesJson = objectMapper.writeValueAsString(List.of());
+        ReservationPageResponse pageResponse = new ReservationPageResponse(List.of(), null);
+        String reservationResponsesJson = objectMapper.writeValueAsString(pageResponse);
 
-        given(reservationService.findAll())
-                .willReturn(List.of());
+        given(reservationService.findAll(any(ReservationSearchRequest.class)))
+                .willReturn(pageResponse);
 
         mvc.perform(get("/reservations"))
                 .andExpect(status().isOk())
                 .andExpect(content().json(reservationResponsesJson));
     }
 
+    @DisplayName("보관된 지난 예약을 조회한다.")
+    @Test
+    void shouldReturnArchivedReservationsWhenFindHistory() throws Exception {
+        ReservationResponse reservationResponse = new ReservationResponse(
+                1L, "test", LocalDate.of(2023, 12, 25),
+                new ReservationTimeResponse(1L, LocalTime.of(10, 0)),
+                new ThemeResponse(1L, "test", "test", "test"));
+        ReservationPageResponse pageResponse = new ReservationPageResponse(List.of(reservationResponse), null);
+
+        given(reservationArchiveService.findAll(any(ReservationSearchRequest.class)))
+                .willReturn(pageResponse);
+
+        mvc.perform(get("/reservations/history").param("themeId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(pageResponse)));
+    }
+
+    @DisplayName("커서와 필터 조건을 전달하여 예약을 조회한다.")
+    @Test
+    void shouldPassSearchConditionWhenFindAll() throws Exception {
+        given(reservationService.findAll(any(ReservationSearchRequest.class)))
+                .willReturn(new ReservationPageResponse(List.of(), null));
+
+        mvc.perform(get("/reservations")
+                        .param("themeId", "1")
+                        .param("dateFrom", "2024-12-01")
+                        .param("dateTo", "2024-12-31")
+                        .param("name", "test")
+                        .param("cursor", "10")
+                        .param("size", "5"))
+                .andExpect(status().isOk());
+
+        then(reservationService).should(times(1)).findAll(new ReservationSearchRequest(
+                1L, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31), "test", 10L, 5
+        ));
+    }
+
+    @DisplayName("페이지 크기가 허용 범위를 벗어나면 400 Bad Request 응답을 반환한다.")
+    @Test
+    void shouldReturn400BadRequestWhenPageSizeOutOfRange() throws Exception {
+        mvc.perform(get("/reservations").param("size", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("예약을 NDJSON 형식으로 내보낸다.")
+    @Test
+    void shouldExportReservationsAsNdjson() throws Exception {
+        ReservationResponse reservationResponse = new ReservationResponse(
+                1L, "test", LocalDate.of(2024, 12, 25),
+                new ReservationTimeResponse(1L, LocalTime.of(10, 0)),
+                new ThemeResponse(1L, "test", "test", "test"));
+        willExport(reservationResponse, reservationResponse);
+
+        MvcResult result = mvc.perform(get("/reservations/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String line = objectMapper.writeValueAsString(reservationResponse);
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(line + "\n" + line + "\n"));
+    }
+
+    @DisplayName("예약을 CSV 형식으로 내보낸다.")
+    @Test
+    void shouldExportReservationsAsCsv() throws Exception {
+        ReservationResponse reservationResponse = new ReservationResponse(
+                1L, "te,st", LocalDate.of(2024, 12, 25),
+                new ReservationTimeResponse(2L, LocalTime.of(10, 0)),
+                new ThemeResponse(3L, "테\r마", "test", "test"));
+        willExport(reservationResponse);
+
+        MvcResult result = mvc.perform(get("/reservations/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string("""
+                        id,name,date,time_id,start_at,theme_id,theme_name
+                        1,"te,st",2024-12-25,2,10:00,3,"테\r마"
+                        """));
+    }
+
+    @DisplayName("지원하지 않는 형식으로 내보내기를 요청하면 400 Bad Request 응답을 반환한다.")
+    @Test
+    void shouldReturn400BadRequestWhenUnsupportedExportFormat() throws Exception {
+        mvc.perform(get("/reservations/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void willExport(ReservationResponse... responses) {
+        willAnswer(invocation -> {
+            Consumer<ReservationResponse> consumer = invocation.getArgument(0);
+            for (ReservationResponse response : responses) {
+                consumer.accept(response);
+            }
+            return null;
+        }).given(reservationService).export(any(Consumer.class));
+    }
+
     @DisplayName("존재하지 않는 새로운 예약을 저장하면 201 Created 응답과 ReservationResponse가 반환된다.")
     @Test
     void shouldReturn201CreatedWithReservationResponseWhenNotExistReservationCreate() throws Exception {
@@ -84,6 +244,69 @@ class ReservationControllerTest extends ControllerTest {
                 .andExpect(content().json(reservationResponseJson));
     }
 
+    @DisplayName("멱등 키가 있는 예약 요청은 저장된 응답을 201 Created와 Location으로 반환한다.")
+    @Test
+    void shouldReturnStoredResponseWhenCreateWithIdempotencyKey() throws Exception {
+        ReservationRequest reservationRequest = new ReservationRequest("test", "2024-12-25", 1L, 1L);
+        String reservationRequestJson = objectMapper.writeValueAsString(reservationRequest);
+
+        ReservationResponse reservationResponse = new ReservationResponse(
+                1L, "test", LocalDate.of(2024, 12, 25),
+                new ReservationTimeResponse(1L, LocalTime.of(10, 0)),
+                new ThemeResponse(1L, "test", "test", "test"));
+        String reservationResponseJson = objectMapper.writeValueAsString(reservationResponse);
+
+        given(idempotencyService.execute(eq("retry-key"), eq(reservationRequestJson), any()))
+                .willReturn(reservationResponseJson);
+
+        mvc.perform(post("/reservations")
+                        .header("Idempotency-Key", "retry-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reservationRequestJson))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/reservations/1"))
+                .andExpect(content().json(reservationResponseJson));
+        then(reservationService).should(never()).create(any(ReservationRequest.class));
+    }
+
+    @DisplayName("여러 예약을 한 번에 저장하면 200 OK 응답과 항목별 결과를 반환한다.")
+    @Test
+    void shouldReturn200OkWithItemResultsWhenBatchCreate() throws Exception {
+        ReservationBatchRequest batchRequest = new ReservationBatchRequest(ReservationBatchMode.BEST_EFFORT, List.of(
+                new ReservationRequest("test1", "2024-12-25", 1L, 1L),
+                new ReservationRequest("test2", "2024-12-25", 1L, 1L)
+        ));
+        ReservationResponse reservationResponse = new ReservationResponse(
+                1L, "test1", LocalDate.of(2024, 12, 25),
+                new ReservationTimeResponse(1L, LocalTime.of(10, 0)),
+                new ThemeResponse(1L, "test", "test", "test"));
+        ReservationBatchResponse batchResponse = ReservationBatchResponse.of(ReservationBatchMode.BEST_EFFORT, List.of(
+                new ReservationBatchItemResponse(0, true, reservationResponse, null),
+                ReservationBatchItemResponse.rejected(1, "이미 존재하는 예약입니다.")
+        ));
+        given(reservationService.createAll(batchRequest))
+                .willReturn(batchResponse);
+
+        mvc.perform(post("/reservations/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(batchResponse)));
+    }
+
+    @DisplayName("일괄 예약 항목의 값이 올바르지 않으면 400 Bad Request 응답을 반환한다.")
+    @Test
+    void shouldReturn400BadRequestWhenBatchItemInvalid() throws Exception {
+        ReservationBatchRequest batchRequest = new ReservationBatchRequest(null, List.of(
+                new ReservationRequest("test", "2024-13-45", 1L, 1L)
+        ));
+
+        mvc.perform(post("/reservations/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
     @DisplayName("존재하지 않는 예약 시간으로 예약을 생성하려고 하면 400 Bad Request 응답을 반환한다.")
     @Test
     void shouldReturn400BadRequestWhenNotFoundReservationTimeCreate() throws Exception {
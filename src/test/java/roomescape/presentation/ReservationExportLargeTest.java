@@ -0,0 +1,100 @@
+package roomescape.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import roomescape.application.ReservationService;
+import roomescape.application.dto.response.ReservationResponse;
+import roomescape.config.TestConfig;
+
+@Tag("large")
+@SpringBootTest(
+        classes = TestConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:file:./build/large-test/export",
+                "spring.sql.init.mode=always"
+        }
+)
+@Sql({"/truncate.sql", "/insert-million-reservations.sql"})
+class ReservationExportLargeTest {
+    private static final int RESERVATION_COUNT = 1_000_000;
+    private static final int SAMPLE_INTERVAL = 100_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 32 * 1024 * 1024;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+
+    @DisplayName("백만 건의 예약을 내보내는 동안 힙 사용량이 일정하게 유지된다.")
+    @Test
+    void shouldKeepHeapFlatWhenExportingMillionReservations() throws IOException {
+        CountingOutputStream outputStream = new CountingOutputStream();
+        AtomicLong exportedCount = new AtomicLong();
+        AtomicLong maxHeapGrowth = new AtomicLong();
+        long baseline = usedHeapAfterGc();
+
+        try (ReservationExportWriter writer = ReservationExportFormat.NDJSON.open(outputStream, objectMapper)) {
+            reservationService.export(response -> {
+                write(writer, response);
+                if (exportedCount.incrementAndGet() % SAMPLE_INTERVAL == 0) {
+                    maxHeapGrowth.accumulateAndGet(usedHeapAfterGc() - baseline, Math::max);
+                }
+            });
+        }
+
+        assertAll(
+                () -> assertThat(exportedCount.get()).isEqualTo(RESERVATION_COUNT),
+                () -> assertThat(outputStream.lineCount).isEqualTo(RESERVATION_COUNT),
+                () -> assertThat(maxHeapGrowth.get()).isLessThan(MAX_HEAP_GROWTH_BYTES)
+        );
+    }
+
+    private void write(ReservationExportWriter writer, ReservationResponse response) {
+        try {
+            writer.write(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        return memoryMXBean.getHeapMemoryUsage().getUsed();
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long lineCount;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lineCount++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package roomescape.presentation;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -18,9 +23,15 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import roomescape.application.ReservationTimeService;
 import roomescape.application.dto.request.ReservationTimeRequest;
+import roomescape.application.dto.response.AvailabilityRangeResponse;
+import roomescape.application.dto.response.DailyAvailabilityResponse;
 import roomescape.application.dto.response.ReservationTimeResponse;
 
 @WebMvcTest(ReservationTimeController.class)
@@ -28,6 +39,9 @@ class ReservationTimeControllerTest extends ControllerTest {
     @MockBean
     private ReservationTimeService reservationTimeService;
 
+    @MockBean
+    private AvailabilityStreamBroadcaster availabilityStreamBroadcaster;
+
     @DisplayName("예약 시간 저장을 요청하면, 해당 예약 시간의 저장 id와 시간 201 Created 응답으로 반환한다.")
     @Test
     void shouldReturnReservationTimeResponseWith201CreatedWhenCreateReservationTime() throws Exception {
@@ -85,4 +99,66 @@ class ReservationTimeControllerTest extends ControllerTest {
 
         then(reservationTimeService).should(times(1)).deleteById(1L);
     }
+
+    @DisplayName("카탈로그 버전이 바뀌지 않았다면 예약 시간을 조회하지 않고 304 Not Modified 응답을 반환한다.")
+    @Test
+    void shouldReturn304NotModifiedWhenCatalogTagMatches() throws Exception {
+        given(reservationTimeService.getCatalogTag())
+                .willReturn("times-1.1");
+
+        mvc.perform(get("/times").header("If-None-Match", "\"times-1.1\""))
+                .andExpect(status().isNotModified());
+
+        then(reservationTimeService).should(never()).findAll();
+    }
+
+    @DisplayName("예약 가능 시간 변경 구독을 요청하면 이벤트 스트림을 연다.")
+    @Test
+    void shouldStartEventStreamWhenSubscribeAvailableTimes() throws Exception {
+        given(availabilityStreamBroadcaster.subscribe(LocalDate.of(2024, 12, 25), 1L))
+                .willReturn(new SseEmitter());
+
+        mvc.perform(get("/times/available/stream")
+                        .param("date", "2024-12-25")
+                        .param("themeId", "1")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @DisplayName("기간별 예약 가능 시간을 조회하면, 200 OK 응답으로 날짜별 예약 비트마스크를 반환한다.")
+    @Test
+    void shouldReturnAvailabilityRangeWith200OkWhenFindAvailabilityRange() throws Exception {
+        AvailabilityRangeResponse response = new AvailabilityRangeResponse(
+                List.of(new ReservationTimeResponse(1L, LocalTime.of(10, 0)),
+                        new ReservationTimeResponse(2L, LocalTime.of(11, 0))),
+                List.of(new DailyAvailabilityResponse(LocalDate.of(2024, 12, 25), "2", 1),
+                        new DailyAvailabilityResponse(LocalDate.of(2024, 12, 26), "0", 2))
+        );
+        given(reservationTimeService.findAvailabilityRange(1L, LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 26)))
+                .willReturn(response);
+
+        mvc.perform(get("/times/available/range")
+                        .param("themeId", "1")
+                        .param("from", "2024-12-25")
+                        .param("to", "2024-12-26"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(response)));
+    }
+
+    @DisplayName("구독자 수가 한도를 넘으면 503 Service Unavailable 응답을 반환한다.")
+    @Test
+    void shouldReturn503ServiceUnavailableWhenSubscribersExceedLimit() throws Exception {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE, "예약 가능 시간 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요."
+        );
+        given(availabilityStreamBroadcaster.subscribe(any(LocalDate.class), anyLong()))
+                .willThrow(new ErrorResponseException(HttpStatus.SERVICE_UNAVAILABLE, problemDetail, null));
+
+        mvc.perform(get("/times/available/stream")
+                        .param("date", "2024-12-25")
+                        .param("themeId", "1")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable());
+    }
 }
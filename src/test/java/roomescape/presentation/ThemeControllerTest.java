@@ -2,10 +2,13 @@ package roomescape.presentation;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
@@ -54,6 +57,44 @@ class ThemeControllerTest extends ControllerTest {
                 .andExpect(content().json(themeResponseJson));
     }
 
+    @DisplayName("테마 목록 응답에 카탈로그 버전 ETag와 Cache-Control 헤더를 포함한다.")
+    @Test
+    void shouldReturnETagAndCacheControlWhenFindAllThemes() throws Exception {
+        given(themeService.getCatalogTag())
+                .willReturn("themes-1.1");
+        given(themeService.findAll())
+                .willReturn(List.of());
+
+        mvc.perform(get("/themes"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"themes-1.1\""))
+                .andExpect(header().string("Cache-Control", "no-cache, public"));
+    }
+
+    @DisplayName("카탈로그 버전이 바뀌지 않았다면 테마를 조회하지 않고 304 Not Modified 응답을 반환한다.")
+    @Test
+    void shouldReturn304NotModifiedWhenCatalogTagMatches() throws Exception {
+        given(themeService.getCatalogTag())
+                .willReturn("themes-1.1");
+
+        mvc.perform(get("/themes").header("If-None-Match", "\"themes-1.1\""))
+                .andExpect(status().isNotModified());
+
+        then(themeService).should(never()).findAll();
+    }
+
+    @DisplayName("인기 테마 버전이 바뀌지 않았다면 인기 테마를 조회하지 않고 304 Not Modified 응답을 반환한다.")
+    @Test
+    void shouldReturn304NotModifiedWhenPopularThemesTagMatches() throws Exception {
+        given(themeService.getPopularThemesTag())
+                .willReturn("popular-2023-12-25-1.1-0");
+
+        mvc.perform(get("/themes/popular").header("If-None-Match", "\"popular-2023-12-25-1.1-0\""))
+                .andExpect(status().isNotModified());
+
+        then(themeService).should(never()).findPopularThemes();
+    }
+
     @DisplayName("테마를 삭제한다.")
     @Test
     void shouldDeleteTheme() throws Exception {
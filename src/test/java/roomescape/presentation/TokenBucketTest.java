@@ -0,0 +1,52 @@
+package roomescape.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @DisplayName("버킷 크기만큼 연속 요청을 허용하고, 그 다음 요청은 토큰이 채워질 때까지 기다려야 한다.")
+    @Test
+    void shouldAllowBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(1), 0);
+
+        assertAll(
+                () -> assertThat(bucket.tryConsume(0)).isZero(),
+                () -> assertThat(bucket.tryConsume(0)).isZero(),
+                () -> assertThat(bucket.tryConsume(0)).isZero(),
+                () -> assertThat(bucket.tryConsume(0)).isEqualTo(SECOND)
+        );
+    }
+
+    @DisplayName("시간이 지나면 지난 시간만큼 토큰이 다시 채워진다.")
+    @Test
+    void shouldRefillTokensOverTime() {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(1), 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertAll(
+                () -> assertThat(bucket.tryConsume(SECOND / 2)).isEqualTo(SECOND / 2),
+                () -> assertThat(bucket.tryConsume(SECOND)).isZero(),
+                () -> assertThat(bucket.tryConsume(SECOND)).isEqualTo(SECOND)
+        );
+    }
+
+    @DisplayName("사용한 토큰이 모두 다시 채워져야 가득 찬 버킷으로 본다.")
+    @Test
+    void shouldBeFullAfterAllTokensRefilled() {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(1), 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertAll(
+                () -> assertThat(bucket.isFull(SECOND)).isFalse(),
+                () -> assertThat(bucket.isFull(2 * SECOND)).isTrue()
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package roomescape.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag("large")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@ActiveProfiles("virtual-threads")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=200",
+                "spring.datasource.hikari.maximum-pool-size=" + VirtualThreadLoadTest.REQUEST_COUNT
+        }
+)
+@Import(VirtualThreadLoadTest.BlockingController.class)
+class VirtualThreadLoadTest {
+    private static final int PLATFORM_THREAD_LIMIT = 200;
+    static final int REQUEST_COUNT = 1_000;
+    private static final long BLOCKING_MILLIS = 2_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BlockingController blockingController;
+
+    @DisplayName("가상 스레드로 요청을 처리하면 JDBC 호출 안에서 막혀도 플랫폼 스레드 수보다 많은 요청을 동시에 처리한다.")
+    @Test
+    void shouldHandleMoreInFlightRequestsThanPlatformThreadsWhileBlockedInJdbc() {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/test/blocking"))
+                .GET()
+                .build();
+
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, REQUEST_COUNT)
+                .mapToObj(i -> client.sendAsync(request, BodyHandlers.ofString()))
+                .toList();
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertAll(
+                () -> assertThat(responses).allMatch(response -> response.join().statusCode() == 200),
+                () -> assertThat(blockingController.maxInFlight.get()).isGreaterThan(PLATFORM_THREAD_LIMIT),
+                () -> assertThat(elapsedMillis).isLessThan(BLOCKING_MILLIS * REQUEST_COUNT / PLATFORM_THREAD_LIMIT)
+        );
+    }
+
+    @RestController
+    static class BlockingController {
+        private final JdbcTemplate jdbcTemplate;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        BlockingController(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+            jdbcTemplate.execute("create alias if not exists sleep for 'java.lang.Thread.sleep(long)'");
+        }
+
+        @GetMapping("/test/blocking")
+        public Long block() {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                jdbcTemplate.queryForList("select sleep(?)", Object.class, BLOCKING_MILLIS);
+                return jdbcTemplate.queryForObject("select count(*) from reservation", Long.class);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+insert into reservation_time (id, start_at)
+select x, cast(dateadd('MINUTE', x * 20, timestamp '2000-01-01 09:00:00') as time)
+from system_range(1, 30);
+
+insert into theme (id, name, description, thumbnail)
+select x, '테마' || x, '테마 설명', 'https://example.com/thumbnail.png'
+from system_range(1, 50);
+
+insert into reservation (name, date, time_id, theme_id)
+select '예약자' || mod(x, 1000), dateadd('DAY', x / 1500, date '2025-01-01'), mod(x, 30) + 1, mod(x / 30, 50) + 1
+from system_range(0, 999999);
@@ -34,6 +34,9 @@ values (1, '아루', '2024-12-24', 1, 2),
        (13, '비밥', '2024-12-29', 3, 1),
        (14, '웨지', '2024-12-29', 4, 1);
 
+insert into theme_daily_stats (date, theme_id, reservation_count)
+select date, theme_id, count(*) from reservation group by date, theme_id;
+
 
 values (1, '아루', '2024-4-26', 1, 2),
        (2, '이상', '2024-4-26', 2, 2),
@@ -7,3 +7,6 @@ values (1, '테마1', '테마1 설명',
 
 insert into reservation (id, name, date, time_id, theme_id)
 values (1, '아루', '2300-12-24', 1, 1);
+
+insert into theme_daily_stats (date, theme_id, reservation_count)
+values ('2300-12-24', 1, 1);
@@ -1,5 +1,8 @@
 set referential_integrity false;
 truncate table reservation;
+truncate table reservation_archive;
+truncate table theme_daily_stats;
+truncate table idempotent_response;
 truncate table theme;
 truncate table reservation_time;
 set referential_integrity true;